@@ -0,0 +1,67 @@
+package demo.demo.domain;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseBenchmark {
+
+    private static final Coordinate CENTER = new Coordinate(37.514647, 127.086592);
+
+    @Param({"100", "1000", "10000"})
+    private int coordinateCount;
+
+    private List<Coordinate> coordinates;
+    private Course course;
+    private Coordinate[] targets;
+    private int targetIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coordinates = SyntheticCourses.loop(CENTER.latitude(), CENTER.longitude(), 2000, coordinateCount, 1);
+        course = new Course("벤치마크 코스", RoadType.보도, coordinates);
+        Random random = new Random(2);
+        targets = new Coordinate[1024];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = SyntheticCourses.randomNear(random, CENTER, 3000);
+        }
+    }
+
+    @Benchmark
+    public Meter length() {
+        return course.length();
+    }
+
+    @Benchmark
+    public Coordinate closestCoordinateFrom() {
+        return course.closestCoordinateFrom(nextTarget());
+    }
+
+    @Benchmark
+    public Course construct() {
+        return new Course("벤치마크 코스", RoadType.보도, coordinates);
+    }
+
+    private Coordinate nextTarget() {
+        targetIndex = (targetIndex + 1) & (targets.length - 1);
+        return targets[targetIndex];
+    }
+}
@@ -0,0 +1,79 @@
+package demo.demo.domain;
+
+import demo.demo.DemoApplication;
+import demo.demo.application.CourseBulkImporter;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseRepositoryBenchmark {
+
+    private static final Coordinate CENTER = new Coordinate(37.514647, 127.086592);
+
+    @Param({"100", "1000", "5000"})
+    private int courseCount;
+
+    @Param({"200"})
+    private int coordinatesPerCourse;
+
+    @Param({"1000"})
+    private double radiusMeter;
+
+    private ConfigurableApplicationContext context;
+    private CourseRepository courseRepository;
+    private Coordinate[] targets;
+    private int targetIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:course-benchmark;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        courseRepository = context.getBean(CourseRepository.class);
+        List<Course> catalog = SyntheticCourses.catalog(CENTER, 30_000, courseCount, coordinatesPerCourse, 3);
+        context.getBean(CourseBulkImporter.class).importAll(catalog.stream());
+
+        Random random = new Random(4);
+        targets = new Coordinate[256];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = SyntheticCourses.randomNear(random, CENTER, 30_000);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<NearCourse> findAllHasDistanceWithin() {
+        targetIndex = (targetIndex + 1) & (targets.length - 1);
+        return courseRepository.findAllHasDistanceWithin(targets[targetIndex], new Meter(radiusMeter));
+    }
+}
@@ -0,0 +1,52 @@
+package demo.demo.domain;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class GeoKernelsBenchmark {
+
+    private static final Coordinate CENTER = new Coordinate(37.514647, 127.086592);
+
+    @Param({"100", "1000", "100000"})
+    private int coordinateCount;
+
+    @Param({"scalar", "vector"})
+    private String kernels;
+
+    private GeoKernels geoKernels;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] lengths;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        geoKernels = kernels.equals("vector") ? GeoKernels.vector() : GeoKernels.scalar();
+        Coordinates coordinates = Coordinates.from(SyntheticCourses.loop(CENTER.latitude(), CENTER.longitude(), 2000, coordinateCount, 1));
+        latitudes = coordinates.latitudes();
+        longitudes = coordinates.longitudes();
+        lengths = new double[coordinateCount - 1];
+    }
+
+    @Benchmark
+    public double[] segmentLengths() {
+        geoKernels.segmentLengths(latitudes, longitudes, lengths);
+        return lengths;
+    }
+}
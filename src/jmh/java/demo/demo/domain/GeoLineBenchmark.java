@@ -0,0 +1,37 @@
+package demo.demo.domain;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoLineBenchmark {
+
+    private final GeoLine line = GeoLine.between(
+            new Coordinate(37.509287, 127.098094),
+            new Coordinate(37.510485, 127.101572)
+    );
+    private final Coordinate target = new Coordinate(37.510012, 127.099120);
+
+    @Benchmark
+    public Meter length() {
+        return line.length();
+    }
+
+    @Benchmark
+    public Coordinate closestCoordinateFrom() {
+        return line.closestCoordinateFrom(target);
+    }
+}
@@ -0,0 +1,54 @@
+package demo.demo.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class SyntheticCourses {
+
+    private SyntheticCourses() {
+    }
+
+    public static List<Coordinate> loop(double centerLatitude, double centerLongitude, double radiusMeter, int size, long seed) {
+        Random random = new Random(seed);
+        double latitudeRadius = Math.toDegrees(radiusMeter / Haversine.EARTH_RADIUS_METERS);
+        double longitudeRadius = latitudeRadius / Math.cos(Math.toRadians(centerLatitude));
+
+        List<Coordinate> coordinates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double angle = 2 * Math.PI * i / size;
+            double noise = 1 + random.nextGaussian() * 0.01;
+            coordinates.add(new Coordinate(
+                    centerLatitude + Math.sin(angle) * latitudeRadius * noise,
+                    centerLongitude + Math.cos(angle) * longitudeRadius * noise,
+                    30 + 20 * Math.sin(angle * 3) + random.nextGaussian()
+            ));
+        }
+        return coordinates;
+    }
+
+    public static List<Course> catalog(Coordinate center, double spreadMeter, int courseCount, int coordinatesPerCourse, long seed) {
+        Random random = new Random(seed);
+        double latitudeSpread = Math.toDegrees(spreadMeter / Haversine.EARTH_RADIUS_METERS);
+        double longitudeSpread = latitudeSpread / Math.cos(Math.toRadians(center.latitude()));
+
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            double latitude = center.latitude() + random.nextDouble(-latitudeSpread, latitudeSpread);
+            double longitude = center.longitude() + random.nextDouble(-longitudeSpread, longitudeSpread);
+            double radius = random.nextDouble(300, 3000);
+            courses.add(new Course("코스 " + i, RoadType.values()[i % RoadType.values().length],
+                    loop(latitude, longitude, radius, coordinatesPerCourse, seed + i)));
+        }
+        return courses;
+    }
+
+    public static Coordinate randomNear(Random random, Coordinate center, double spreadMeter) {
+        double latitudeSpread = Math.toDegrees(spreadMeter / Haversine.EARTH_RADIUS_METERS);
+        double longitudeSpread = latitudeSpread / Math.cos(Math.toRadians(center.latitude()));
+        return new Coordinate(
+                center.latitude() + random.nextDouble(-latitudeSpread, latitudeSpread),
+                center.longitude() + random.nextDouble(-longitudeSpread, longitudeSpread)
+        );
+    }
+}
@@ -0,0 +1,229 @@
+package demo.demo.load;
+
+import demo.demo.DemoApplication;
+import demo.demo.application.CourseBulkImporter;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.SyntheticCourses;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class CourseLoadTest {
+
+    private static final Coordinate CENTER = new Coordinate(37.514647, 127.086592);
+    private static final String BOUNDARY = "course-load-test-boundary";
+
+    private final Map<String, String> options;
+
+    private CourseLoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        CourseLoadTest loadTest = new CourseLoadTest(options);
+        List<Result> results = new ArrayList<>();
+        for (String mode : loadTest.option("modes", "platform,virtual").split(",")) {
+            results.addAll(loadTest.run(mode.trim()));
+        }
+        System.out.printf("%n%-9s %-7s %9s %7s %10s %9s %9s%n", "mode", "traffic", "requests", "errors", "req/s", "p50(ms)", "p99(ms)");
+        results.forEach(result -> System.out.printf(Locale.ROOT, "%-9s %-7s %9d %7d %10.1f %9.1f %9.1f%n",
+                result.mode(), result.traffic(), result.requests(), result.errors(), result.throughput(),
+                result.percentileMillis(0.50), result.percentileMillis(0.99)));
+    }
+
+    private List<Result> run(String mode) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                        "server.tomcat.threads.max=" + option("tomcatThreads", "32"),
+                        "spring.datasource.url=jdbc:h2:mem:course-load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.servlet.multipart.max-file-size=64MB",
+                        "spring.servlet.multipart.max-request-size=64MB",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        try {
+            context.getBean(CourseBulkImporter.class).importAll(
+                    SyntheticCourses.catalog(CENTER, 30_000, intOption("courses", 2000), 200, 3).stream());
+            URI baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            byte[] upload = multipart(gpx(intOption("uploadTracks", 20), intOption("uploadPoints", 2000)));
+
+            Duration warmup = Duration.ofSeconds(intOption("warmupSeconds", 5));
+            Duration measurement = Duration.ofSeconds(intOption("seconds", 20));
+            List<Traffic> traffics = List.of(
+                    new Traffic("upload", intOption("uploadClients", 16), random -> HttpRequest.newBuilder(baseUri.resolve("/courses/import"))
+                            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(upload))
+                            .build()),
+                    new Traffic("search", intOption("searchClients", 64), random -> {
+                        Coordinate target = SyntheticCourses.randomNear(random, CENTER, 30_000);
+                        return HttpRequest.newBuilder(baseUri.resolve(String.format(Locale.ROOT,
+                                        "/courses?latitude=%f&longitude=%f&radius=%d", target.latitude(), target.longitude(), 1000)))
+                                .GET()
+                                .build();
+                    })
+            );
+            return drive(mode, traffics, warmup, measurement);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<Result> drive(String mode, List<Traffic> traffics, Duration warmup, Duration measurement) {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + measurement.toNanos();
+        List<Recorder> recorders = traffics.stream().map(traffic -> new Recorder()).toList();
+        AtomicInteger seed = new AtomicInteger();
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < traffics.size(); t++) {
+                Traffic traffic = traffics.get(t);
+                Recorder recorder = recorders.get(t);
+                for (int client = 0; client < traffic.clients(); client++) {
+                    clients.execute(() -> {
+                        Random random = new Random(seed.incrementAndGet());
+                        long now;
+                        while ((now = System.nanoTime()) < measureUntil) {
+                            boolean failed;
+                            try {
+                                HttpResponse<Void> response = httpClient.send(traffic.requests().next(random), HttpResponse.BodyHandlers.discarding());
+                                failed = response.statusCode() != 200;
+                            } catch (Exception e) {
+                                failed = true;
+                            }
+                            if (now >= measureFrom) {
+                                recorder.record(System.nanoTime() - now, failed);
+                            }
+                        }
+                    });
+                }
+            }
+        }
+        List<Result> results = new ArrayList<>();
+        for (int t = 0; t < traffics.size(); t++) {
+            results.add(recorders.get(t).result(mode, traffics.get(t).name(), measurement));
+        }
+        return results;
+    }
+
+    private static String gpx(int trackCount, int pointCount) {
+        StringBuilder gpx = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><gpx version=\"1.1\" creator=\"load-test\">");
+        Random random = new Random(11);
+        for (int track = 0; track < trackCount; track++) {
+            Coordinate start = SyntheticCourses.randomNear(random, CENTER, 30_000);
+            gpx.append("<trk><name>부하 테스트 ").append(track).append("</name><trkseg>");
+            for (Coordinate point : SyntheticCourses.loop(start.latitude(), start.longitude(), 1500, pointCount, track)) {
+                gpx.append(String.format(Locale.ROOT, "<trkpt lat=\"%.6f\" lon=\"%.6f\"><ele>%.1f</ele></trkpt>",
+                        point.latitude(), point.longitude(), point.elevation()));
+            }
+            gpx.append("</trkseg></trk>");
+        }
+        return gpx.append("</gpx>").toString();
+    }
+
+    private static byte[] multipart(String gpx) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"load.gpx\"\r\n"
+                + "Content-Type: application/gpx+xml\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(gpx.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, String.valueOf(defaultValue)));
+    }
+
+    private interface RequestFactory {
+        HttpRequest next(Random random);
+    }
+
+    private record Traffic(String name, int clients, RequestFactory requests) {
+    }
+
+    private static class Recorder {
+
+        private final List<long[]> latencies = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+        private long[] current = new long[1024];
+        private int size;
+
+        private synchronized void record(long latencyNanos, boolean failed) {
+            if (failed) {
+                errors.incrementAndGet();
+                return;
+            }
+            if (size == current.length) {
+                latencies.add(current);
+                current = new long[current.length];
+                size = 0;
+            }
+            current[size++] = latencyNanos;
+        }
+
+        private synchronized Result result(String mode, String traffic, Duration measurement) {
+            long[] all = new long[latencies.size() * current.length + size];
+            int offset = 0;
+            for (long[] block : latencies) {
+                System.arraycopy(block, 0, all, offset, block.length);
+                offset += block.length;
+            }
+            System.arraycopy(current, 0, all, offset, size);
+            Arrays.sort(all);
+            return new Result(mode, traffic, all, errors.get(), measurement);
+        }
+    }
+
+    private record Result(String mode, String traffic, long[] sortedLatencies, long errors, Duration measurement) {
+
+        private int requests() {
+            return sortedLatencies.length;
+        }
+
+        private double throughput() {
+            return sortedLatencies.length / (measurement.toNanos() / 1e9);
+        }
+
+        private double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
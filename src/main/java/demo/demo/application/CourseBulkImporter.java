@@ -0,0 +1,95 @@
+package demo.demo.application;
+
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class CourseBulkImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseBulkImporter.class);
+
+    private final CourseRepository courseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public CourseBulkImporter(
+            CourseRepository courseRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${course.import.batch-size:100}") int batchSize
+    ) {
+        validateBatchSize(batchSize);
+        this.courseRepository = courseRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public CourseImportResult importAll(Stream<Course> courses) {
+        return importAll(courses, batchSize);
+    }
+
+    public CourseImportResult importAll(Stream<Course> courses, int batchSize) {
+        validateBatchSize(batchSize);
+        long startedAt = System.nanoTime();
+        long courseCount = 0;
+        long coordinateCount = 0;
+
+        List<Course> batch = new ArrayList<>(batchSize);
+        Iterator<Course> iterator = courses.iterator();
+        while (iterator.hasNext()) {
+            Course course = iterator.next();
+            batch.add(course);
+            courseCount++;
+            coordinateCount += course.coordinates().size();
+            if (batch.size() == batchSize) {
+                saveBatch(batch, batchSize);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            saveBatch(batch, batchSize);
+        }
+
+        CourseImportResult result = new CourseImportResult(
+                courseCount, coordinateCount, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Imported {} courses ({} coordinates) in {} ms: {} courses/s, {} coordinates/s",
+                result.courseCount(), result.coordinateCount(), result.elapsed().toMillis(),
+                Math.round(result.coursesPerSecond()), Math.round(result.coordinatesPerSecond()));
+        return result;
+    }
+
+    public List<Course> saveBatch(List<Course> courses) {
+        return saveBatch(courses, batchSize);
+    }
+
+    private List<Course> saveBatch(List<Course> courses, int batchSize) {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<Course> saved = courseRepository.saveAll(courses);
+            entityManager.flush();
+            entityManager.clear();
+            return saved;
+        });
+    }
+
+    private static void validateBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("");
+        }
+    }
+}
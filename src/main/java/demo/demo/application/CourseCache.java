@@ -0,0 +1,59 @@
+package demo.demo.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseRepository;
+import demo.demo.domain.CourseSaved;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CourseCache {
+
+    private final CourseRepository courseRepository;
+    private final ObjectProvider<CourseGeometryStore> courseGeometryStore;
+    private final Cache<Long, Course> courses;
+
+    public CourseCache(
+            CourseRepository courseRepository,
+            ObjectProvider<CourseGeometryStore> courseGeometryStore,
+            MeterRegistry meterRegistry,
+            @Value("${course.cache.max-coordinates:2000000}") long maxCoordinates
+    ) {
+        this.courseRepository = courseRepository;
+        this.courseGeometryStore = courseGeometryStore;
+        this.courses = Caffeine.newBuilder()
+                .maximumWeight(maxCoordinates)
+                .weigher((Long courseId, Course course) -> course.coordinates().size())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, courses, "courses");
+    }
+
+    public Optional<Course> findById(Long courseId) {
+        return Optional.ofNullable(courses.get(courseId, this::load));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(CourseSaved event) {
+        courses.invalidate(event.courseId());
+    }
+
+    private Course load(Long courseId) {
+        CourseGeometryStore store = courseGeometryStore.getIfAvailable();
+        if (store != null) {
+            Optional<Course> stored = store.findById(courseId).map(Course::from);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+        return courseRepository.findById(courseId).orElse(null);
+    }
+}
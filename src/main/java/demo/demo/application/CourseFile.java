@@ -0,0 +1,19 @@
+package demo.demo.application;
+
+import org.springframework.core.io.InputStreamSource;
+
+public record CourseFile(
+        String name,
+        InputStreamSource content
+) {
+    public String extension() {
+        if (name == null) {
+            return "";
+        }
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        return name.substring(dot + 1);
+    }
+}
@@ -0,0 +1,78 @@
+package demo.demo.application;
+
+import demo.demo.domain.CourseGeometry;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CourseGeometryLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseGeometryLoader.class);
+
+    private final CourseRepository courseRepository;
+    private final ObjectProvider<CourseGeometryStore> courseGeometryStore;
+    private final int batchSize;
+
+    public CourseGeometryLoader(
+            CourseRepository courseRepository,
+            ObjectProvider<CourseGeometryStore> courseGeometryStore,
+            @Value("${course.geometry.load-batch-size:500}") int batchSize
+    ) {
+        this.courseRepository = courseRepository;
+        this.courseGeometryStore = courseGeometryStore;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${course.geometry.reconcile-interval:10m}",
+            fixedDelayString = "${course.geometry.reconcile-interval:10m}"
+    )
+    public void reconcile() {
+        courseGeometryStore.ifAvailable(store -> {
+            long[] storedIds = store.findAll().stream().mapToLong(CourseGeometry::id).sorted().toArray();
+            int stored = 0;
+            int loaded = 0;
+            List<Long> removed = new ArrayList<>();
+            long afterId = 0;
+            List<Long> ids;
+            while (!(ids = courseRepository.findIdsAfter(afterId, Limit.of(batchSize))).isEmpty()) {
+                List<Long> missing = new ArrayList<>();
+                for (Long id : ids) {
+                    while (stored < storedIds.length && storedIds[stored] < id) {
+                        removed.add(storedIds[stored++]);
+                    }
+                    if (stored < storedIds.length && storedIds[stored] == id) {
+                        stored++;
+                    } else {
+                        missing.add(id);
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    store.putAll(courseRepository.findAllByIdInOrderByIdAsc(missing));
+                    loaded += missing.size();
+                }
+                afterId = ids.getLast();
+            }
+            while (stored < storedIds.length) {
+                removed.add(storedIds[stored++]);
+            }
+            if (!removed.isEmpty()) {
+                store.removeAll(removed);
+            }
+            log.info("Reconciled {} course geometries with the database ({} loaded, {} removed)",
+                    store.size(), loaded, removed.size());
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package demo.demo.application;
+
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseSaved;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CourseGeometrySynchronizer {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseGeometrySynchronizer.class);
+
+    private final ObjectProvider<CourseGeometryStore> courseGeometryStore;
+
+    public CourseGeometrySynchronizer(ObjectProvider<CourseGeometryStore> courseGeometryStore) {
+        this.courseGeometryStore = courseGeometryStore;
+    }
+
+    @EventListener
+    public void synchronize(CourseSaved event) {
+        courseGeometryStore.ifAvailable(store -> {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                putAll(store, List.of(event.course()));
+                return;
+            }
+            pendingCoursesOf(store).courses().add(event.course());
+        });
+    }
+
+    private static void putAll(CourseGeometryStore store, List<Course> courses) {
+        try {
+            store.putAll(courses);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store geometries of courses {}; the next reconciliation will retry",
+                    courses.stream().map(Course::id).toList(), e);
+        }
+    }
+
+    private static PendingCourses pendingCoursesOf(CourseGeometryStore store) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingCourses pending) {
+                return pending;
+            }
+        }
+        PendingCourses pending = new PendingCourses(store, new ArrayList<>());
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private record PendingCourses(CourseGeometryStore store, List<Course> courses) implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            putAll(store, courses);
+        }
+    }
+}
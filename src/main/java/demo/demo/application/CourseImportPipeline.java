@@ -0,0 +1,383 @@
+package demo.demo.application;
+
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseDraft;
+import demo.demo.domain.CourseMetrics;
+import demo.demo.domain.CourseParser;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CourseImportPipeline implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseImportPipeline.class);
+    private static final long POLL_MILLIS = 50;
+    private static final String ZIP_EXTENSION = "zip";
+
+    private final CourseParserRegistry courseParserRegistry;
+    private final CourseBulkImporter courseBulkImporter;
+    private final CourseMetrics courseMetrics;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int constructionThreads;
+    private final int writerThreads;
+    private final ExecutorService stagePool;
+    private final Semaphore parsePermits;
+    private final Semaphore constructionPermits;
+    private final Semaphore writePermits;
+    private final Map<Long, ImportProgress> activeImports = new ConcurrentHashMap<>();
+
+    public CourseImportPipeline(
+            CourseParserRegistry courseParserRegistry,
+            CourseBulkImporter courseBulkImporter,
+            ObjectProvider<CourseMetrics> courseMetrics,
+            @Value("${course.import.batch-size:100}") int batchSize,
+            @Value("${course.import.queue-capacity:256}") int queueCapacity,
+            @Value("${course.import.construction-threads:0}") int constructionThreads,
+            @Value("${course.import.writer-threads:2}") int writerThreads,
+            @Value("${course.import.parse-threads:8}") int parseThreads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        if (batchSize < 1 || queueCapacity < 1 || constructionThreads < 0 || writerThreads < 1 || parseThreads < 1) {
+            throw new IllegalArgumentException("");
+        }
+        this.courseParserRegistry = courseParserRegistry;
+        this.courseBulkImporter = courseBulkImporter;
+        this.courseMetrics = courseMetrics.getIfAvailable(() -> CourseMetrics.NOOP);
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.constructionThreads = constructionThreads == 0 ? Runtime.getRuntime().availableProcessors() : constructionThreads;
+        this.writerThreads = writerThreads;
+        this.stagePool = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("course-import-", 0).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("course-import-", 0).factory());
+        this.parsePermits = new Semaphore(parseThreads);
+        this.constructionPermits = new Semaphore(this.constructionThreads);
+        this.writePermits = new Semaphore(writerThreads);
+    }
+
+    public CourseImportReport importDirectory(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<CourseFile> files = paths.filter(Files::isRegularFile)
+                    .map(path -> new CourseFile(path.getFileName().toString(), new FileSystemResource(path)))
+                    .toList();
+            return importAll(files);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public CourseImportReport importAll(List<CourseFile> files) {
+        return importAll(files, new ImportProgress());
+    }
+
+    public CourseImportReport importAll(List<CourseFile> files, ImportProgress progress) {
+        List<ZipFile> archives = new ArrayList<>();
+        activeImports.put(progress.id(), progress);
+        try {
+            return run(expandArchives(files, archives), progress);
+        } finally {
+            activeImports.remove(progress.id());
+            archives.forEach(CourseImportPipeline::closeQuietly);
+        }
+    }
+
+    public List<ImportProgress> activeImports() {
+        return List.copyOf(activeImports.values());
+    }
+
+    private List<CourseFile> expandArchives(List<CourseFile> files, List<ZipFile> archives) {
+        List<CourseFile> expanded = new ArrayList<>(files.size());
+        for (CourseFile file : files) {
+            if (!ZIP_EXTENSION.equalsIgnoreCase(file.extension())) {
+                expanded.add(file);
+                continue;
+            }
+            ZipFile archive = openArchive(file);
+            archives.add(archive);
+            archive.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .map(entry -> new CourseFile(fileNameOf(entry), () -> archive.getInputStream(entry)))
+                    .forEach(expanded::add);
+        }
+        return expanded;
+    }
+
+    private static ZipFile openArchive(CourseFile file) {
+        try {
+            Path temporary = Files.createTempFile("course-import-", ".zip");
+            try (InputStream content = file.content().getInputStream()) {
+                Files.copy(content, temporary, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new ZipFile(temporary.toFile(), ZipFile.OPEN_READ | ZipFile.OPEN_DELETE);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("", e);
+        }
+    }
+
+    private static void closeQuietly(ZipFile archive) {
+        try {
+            archive.close();
+        } catch (IOException e) {
+            log.warn("Failed to close course archive {}", archive.getName(), e);
+        }
+    }
+
+    private CourseImportReport run(List<CourseFile> files, ImportProgress progress) {
+        Run run = new Run(progress);
+        List<Future<?>> constructors = submit(stagePool, constructionThreads, run.guarded(run::construct));
+        List<Future<?>> writers = submit(stagePool, writerThreads, run.guarded(run::write));
+        try {
+            try (ExecutorService parsePool = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (CourseFile file : files) {
+                    run.acquire(parsePermits);
+                    parsePool.execute(() -> {
+                        try {
+                            run.guarded(() -> run.parse(file)).run();
+                        } finally {
+                            parsePermits.release();
+                        }
+                    });
+                }
+            } catch (CancellationException ignored) {
+            }
+            run.parsing = false;
+            await(constructors, run);
+            run.constructing = false;
+            await(writers, run);
+        } finally {
+            constructors.forEach(future -> future.cancel(true));
+            writers.forEach(future -> future.cancel(true));
+        }
+
+        CourseImportReport report = progress.report();
+        log.info("Imported {} of {} parsed courses from {} files ({} failed, {} rejected) in {} ms, busy time per stage: {}",
+                report.result().courseCount(), report.parsedCourses(), report.parsedFiles(), report.failedFiles(),
+                report.rejectedCourses(), report.result().elapsed().toMillis(), report.stageBusyTimes());
+        return report;
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        stagePool.shutdownNow();
+    }
+
+    private static List<Future<?>> submit(ExecutorService pool, int count, Runnable worker) {
+        List<Future<?>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(pool.submit(worker));
+        }
+        return futures;
+    }
+
+    private static void await(List<Future<?>> futures, Run run) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.abort(e);
+            } catch (ExecutionException e) {
+                run.abort(e.getCause());
+            }
+        }
+        run.rethrowFailure();
+    }
+
+    private static String fileNameOf(ZipEntry entry) {
+        String name = entry.getName();
+        return name.substring(name.lastIndexOf('/') + 1);
+    }
+
+    private class Run {
+
+        private final ImportProgress progress;
+        private final BlockingQueue<CourseDraft> drafts = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<Course> courses = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean parsing = true;
+        private volatile boolean constructing = true;
+
+        private Run(ImportProgress progress) {
+            this.progress = progress;
+        }
+
+        private void parse(CourseFile file) {
+            long busy = 0;
+            try (InputStream fileStream = new BufferedInputStream(file.content().getInputStream())) {
+                CourseParser parser = courseParserRegistry.find(file.extension(), fileStream).orElse(null);
+                if (parser == null) {
+                    progress.fileFailed();
+                    return;
+                }
+                try (Stream<CourseDraft> parsed = parser.streamDrafts(fileStream, courseMetrics)) {
+                    long startedAt = System.nanoTime();
+                    for (CourseDraft draft : (Iterable<CourseDraft>) parsed::iterator) {
+                        busy += System.nanoTime() - startedAt;
+                        progress.courseParsed();
+                        put(drafts, draft);
+                        startedAt = System.nanoTime();
+                    }
+                    busy += System.nanoTime() - startedAt;
+                }
+                progress.fileParsed();
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Skipped course file {}: {}", file.name(), e.toString());
+                progress.fileFailed();
+            } finally {
+                progress.busy(ImportStage.PARSE, busy);
+            }
+        }
+
+        private void construct() {
+            while (true) {
+                CourseDraft draft = poll(drafts);
+                if (draft == null) {
+                    if (!parsing && drafts.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                acquire(constructionPermits);
+                long startedAt = System.nanoTime();
+                Course course = null;
+                try {
+                    course = draft.toCourse();
+                    progress.courseConstructed();
+                } catch (IllegalArgumentException e) {
+                    progress.courseRejected();
+                } finally {
+                    constructionPermits.release();
+                }
+                long elapsed = System.nanoTime() - startedAt;
+                progress.busy(ImportStage.CONSTRUCT, elapsed);
+                if (course != null && courseMetrics.enabled()) {
+                    courseMetrics.recordConstruction(elapsed, course.coordinates().size());
+                }
+                if (course != null) {
+                    put(courses, course);
+                }
+            }
+        }
+
+        private void write() {
+            List<Course> batch = new ArrayList<>(batchSize);
+            while (true) {
+                Course course = poll(courses);
+                if (course == null) {
+                    if (!constructing && courses.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(course);
+                courses.drainTo(batch, batchSize - 1);
+
+                acquire(writePermits);
+                long startedAt = System.nanoTime();
+                try {
+                    courseBulkImporter.saveBatch(batch);
+                } finally {
+                    writePermits.release();
+                }
+                progress.busy(ImportStage.WRITE, System.nanoTime() - startedAt);
+                progress.batchSaved(batch.size(), batch.stream().mapToLong(saved -> saved.coordinates().size()).sum());
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        private Runnable guarded(Runnable worker) {
+            return () -> {
+                try {
+                    worker.run();
+                } catch (CancellationException ignored) {
+                } catch (RuntimeException e) {
+                    abort(e);
+                }
+            };
+        }
+
+        private <T> T poll(BlockingQueue<T> queue) {
+            checkAborted();
+            try {
+                return queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+
+        private void acquire(Semaphore permits) {
+            try {
+                while (!permits.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    checkAborted();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+
+        private <T> void put(BlockingQueue<T> queue, T item) {
+            try {
+                while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    checkAborted();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+
+        private void checkAborted() {
+            if (failure.get() != null) {
+                throw new CancellationException();
+            }
+        }
+
+        private void abort(Throwable cause) {
+            failure.compareAndSet(null, cause);
+        }
+
+        private void rethrowFailure() {
+            Throwable cause = failure.get();
+            if (cause == null) {
+                return;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
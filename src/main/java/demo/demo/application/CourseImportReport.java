@@ -0,0 +1,14 @@
+package demo.demo.application;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record CourseImportReport(
+        long parsedFiles,
+        long failedFiles,
+        long parsedCourses,
+        long rejectedCourses,
+        CourseImportResult result,
+        Map<ImportStage, Duration> stageBusyTimes
+) {
+}
@@ -0,0 +1,36 @@
+package demo.demo.application;
+
+import java.time.Duration;
+
+public record CourseImportResult(
+        long courseCount,
+        long coordinateCount,
+        Duration elapsed
+) {
+    public static CourseImportResult empty() {
+        return new CourseImportResult(0, 0, Duration.ZERO);
+    }
+
+    public CourseImportResult add(CourseImportResult other) {
+        return new CourseImportResult(
+                courseCount + other.courseCount,
+                coordinateCount + other.coordinateCount,
+                elapsed.plus(other.elapsed)
+        );
+    }
+
+    public double coursesPerSecond() {
+        return perSecond(courseCount);
+    }
+
+    public double coordinatesPerSecond() {
+        return perSecond(coordinateCount);
+    }
+
+    private double perSecond(long count) {
+        if (elapsed.isZero()) {
+            return 0;
+        }
+        return count * 1_000_000_000.0 / elapsed.toNanos();
+    }
+}
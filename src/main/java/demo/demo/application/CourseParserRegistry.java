@@ -0,0 +1,42 @@
+package demo.demo.application;
+
+import demo.demo.domain.CourseParser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CourseParserRegistry {
+
+    static final int SNIFF_BYTES = 512;
+
+    private final List<CourseParser> courseParsers;
+
+    public CourseParserRegistry(List<CourseParser> courseParsers) {
+        this.courseParsers = List.copyOf(courseParsers);
+    }
+
+    public Optional<CourseParser> findByExtension(String fileExtension) {
+        return courseParsers.stream()
+                .filter(parser -> parser.canParse(fileExtension))
+                .findFirst();
+    }
+
+    public Optional<CourseParser> findByHeader(byte[] header) {
+        return courseParsers.stream()
+                .filter(parser -> parser.canParse(header))
+                .findFirst();
+    }
+
+    public Optional<CourseParser> find(String fileExtension, InputStream fileStream) throws IOException {
+        if (!fileStream.markSupported()) {
+            throw new IllegalArgumentException("");
+        }
+        fileStream.mark(SNIFF_BYTES);
+        byte[] header = fileStream.readNBytes(SNIFF_BYTES);
+        fileStream.reset();
+        return findByHeader(header).or(() -> findByExtension(fileExtension));
+    }
+}
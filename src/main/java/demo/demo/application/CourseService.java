@@ -0,0 +1,128 @@
+package demo.demo.application;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometry;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseMetrics;
+import demo.demo.domain.CourseProgress;
+import demo.demo.domain.CourseRepository;
+import demo.demo.domain.CourseSearchCondition;
+import demo.demo.domain.CourseSearchPage;
+import demo.demo.domain.ElevationProfile;
+import demo.demo.domain.Meter;
+import demo.demo.domain.NearCourse;
+import demo.demo.domain.SnappedCoordinate;
+import demo.demo.domain.Tile;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class CourseService {
+
+    private final CourseRepository courseRepository;
+    private final ObjectProvider<CourseGeometryStore> courseGeometryStore;
+    private final CourseCache courseCache;
+    private final CourseTileCache courseTileCache;
+    private final CourseMetrics courseMetrics;
+
+    public CourseService(
+            CourseRepository courseRepository,
+            ObjectProvider<CourseGeometryStore> courseGeometryStore,
+            CourseCache courseCache,
+            CourseTileCache courseTileCache,
+            ObjectProvider<CourseMetrics> courseMetrics
+    ) {
+        this.courseRepository = courseRepository;
+        this.courseGeometryStore = courseGeometryStore;
+        this.courseCache = courseCache;
+        this.courseTileCache = courseTileCache;
+        this.courseMetrics = courseMetrics.getIfAvailable(() -> CourseMetrics.NOOP);
+    }
+
+    public List<SnappedCoordinate> snap(Long courseId, List<Coordinate> coordinates) {
+        if (!courseMetrics.enabled()) {
+            return snapAll(courseId, coordinates);
+        }
+        long startedAt = System.nanoTime();
+        List<SnappedCoordinate> snappedCoordinates = snapAll(courseId, coordinates);
+        courseMetrics.recordSnap(System.nanoTime() - startedAt, coordinates.size());
+        return snappedCoordinates;
+    }
+
+    public List<NearCourse> findAllWithin(Coordinate target, Meter radius) {
+        CourseGeometryStore store = courseGeometryStore.getIfAvailable();
+        if (store != null) {
+            return store.findAllHasDistanceWithin(target, radius, courseMetrics);
+        }
+        return courseRepository.findAllHasDistanceWithin(target, radius, courseMetrics);
+    }
+
+    public CourseSearchPage search(CourseSearchCondition condition) {
+        return courseRepository.search(condition);
+    }
+
+    public List<NearCourse> findNearest(Coordinate target, int k) {
+        if (k < 1 || k > CourseSearchCondition.MAX_SIZE) {
+            throw new IllegalArgumentException("");
+        }
+        CourseGeometryStore store = courseGeometryStore.getIfAvailable();
+        if (store != null) {
+            return store.findNearest(target, k);
+        }
+        return courseRepository.findNearest(target, k);
+    }
+
+    public CourseTile tile(Tile tile) {
+        return courseTileCache.find(tile);
+    }
+
+    public CourseProgress progress(Long courseId, Coordinate position) {
+        return getCourse(courseId).progressOf(position);
+    }
+
+    public Coordinate coordinateAt(Long courseId, Meter distance) {
+        return getCourse(courseId).coordinateAt(distance);
+    }
+
+    public ElevationProfile elevationProfile(Long courseId) {
+        return getCourse(courseId).elevationProfile();
+    }
+
+    public List<Coordinate> coordinates(Long courseId, Integer zoom) {
+        if (zoom == null) {
+            Optional<CourseGeometry> geometry = findGeometry(courseId);
+            if (geometry.isPresent()) {
+                return geometry.get().toCoordinates().asList();
+            }
+            return getCourse(courseId).coordinates();
+        }
+        return getCourse(courseId).coordinatesForZoom(zoom);
+    }
+
+    private List<SnappedCoordinate> snapAll(Long courseId, List<Coordinate> coordinates) {
+        Optional<CourseGeometry> geometry = findGeometry(courseId);
+        if (geometry.isPresent()) {
+            return geometry.get().snapAll(coordinates);
+        }
+        return getCourse(courseId).snapAll(coordinates);
+    }
+
+    private Optional<CourseGeometry> findGeometry(Long courseId) {
+        CourseGeometryStore store = courseGeometryStore.getIfAvailable();
+        if (store == null) {
+            return Optional.empty();
+        }
+        return store.findById(courseId);
+    }
+
+    private Course getCourse(Long courseId) {
+        return courseCache.findById(courseId)
+                .orElseThrow(NoSuchElementException::new);
+    }
+}
@@ -0,0 +1,27 @@
+package demo.demo.application;
+
+import demo.demo.domain.Tile;
+import java.util.List;
+
+public record CourseTile(
+        Tile tile,
+        List<Feature> features
+) {
+    int encodedLength() {
+        long length = 0;
+        for (Feature feature : features) {
+            length += feature.name().length();
+            for (String polyline : feature.polylines()) {
+                length += polyline.length();
+            }
+        }
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    public record Feature(
+            Long courseId,
+            String name,
+            List<String> polylines
+    ) {
+    }
+}
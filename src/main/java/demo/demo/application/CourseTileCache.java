@@ -0,0 +1,142 @@
+package demo.demo.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import demo.demo.domain.BoundingBox;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseBounds;
+import demo.demo.domain.CourseGeometry;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseRepository;
+import demo.demo.domain.CourseSaved;
+import demo.demo.domain.EncodedPolyline;
+import demo.demo.domain.Tile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CourseTileCache {
+
+    private static final int INVALIDATION_HISTORY = 1024;
+
+    private final CourseRepository courseRepository;
+    private final ObjectProvider<CourseGeometryStore> courseGeometryStore;
+    private final int loadBatchSize;
+    private final int minZoom;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentNavigableMap<Long, BoundingBox> invalidations = new ConcurrentSkipListMap<>();
+    private final Cache<Tile, RenderedTile> tiles;
+
+    public CourseTileCache(
+            CourseRepository courseRepository,
+            ObjectProvider<CourseGeometryStore> courseGeometryStore,
+            MeterRegistry meterRegistry,
+            @Value("${course.tile.cache-max-chars:16000000}") long maxChars,
+            @Value("${course.tile.load-batch-size:500}") int loadBatchSize,
+            @Value("${course.tile.min-zoom:10}") int minZoom
+    ) {
+        this.courseRepository = courseRepository;
+        this.courseGeometryStore = courseGeometryStore;
+        this.loadBatchSize = loadBatchSize;
+        this.minZoom = minZoom;
+        this.tiles = Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((Tile tile, RenderedTile rendered) -> rendered.courseTile().encodedLength())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tiles, "course-tiles");
+    }
+
+    public CourseTile find(Tile tile) {
+        if (tile.zoom() < minZoom) {
+            throw new IllegalArgumentException("");
+        }
+        RenderedTile rendered = tiles.get(tile, this::renderCurrent);
+        long current = generation.get();
+        if (rendered.generation() == current) {
+            return rendered.courseTile();
+        }
+        if (isInvalidatedSince(tile, rendered.generation(), current)) {
+            tiles.asMap().remove(tile, rendered);
+            return tiles.get(tile, this::renderCurrent).courseTile();
+        }
+        tiles.asMap().replace(tile, rendered, new RenderedTile(current, rendered.courseTile()));
+        return rendered.courseTile();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void invalidate(CourseSaved event) {
+        BoundingBox boundingBox = event.course().boundingBox();
+        long next = generation.get() + 1;
+        invalidations.put(next, boundingBox);
+        invalidations.headMap(next - INVALIDATION_HISTORY).clear();
+        generation.set(next);
+        tiles.invalidateAll(tiles.asMap().keySet().stream()
+                .filter(tile -> isAffected(tile, boundingBox))
+                .toList());
+    }
+
+    private boolean isInvalidatedSince(Tile tile, long renderedGeneration, long current) {
+        if (renderedGeneration < current - INVALIDATION_HISTORY) {
+            return true;
+        }
+        return invalidations.subMap(renderedGeneration, false, current, true).values().stream()
+                .anyMatch(boundingBox -> isAffected(tile, boundingBox));
+    }
+
+    private static boolean isAffected(Tile tile, BoundingBox boundingBox) {
+        return tile.bufferedBoundingBox().withFloorMargin().intersects(boundingBox);
+    }
+
+    private RenderedTile renderCurrent(Tile tile) {
+        long renderedGeneration = generation.get();
+        return new RenderedTile(renderedGeneration, render(tile));
+    }
+
+    private CourseTile render(Tile tile) {
+        CourseGeometryStore store = courseGeometryStore.getIfAvailable();
+        List<CourseTile.Feature> features = new ArrayList<>();
+        if (store != null) {
+            store.findAllIntersecting(tile.bufferedBoundingBox()).stream()
+                    .filter(geometry -> !tile.isSubPixel(geometry.boundingBox()))
+                    .sorted(Comparator.comparingLong(CourseGeometry::id))
+                    .forEach(geometry -> addFeature(features, geometry.id(), geometry.name(), geometry.clipTo(tile)));
+            return new CourseTile(tile, features);
+        }
+
+        List<Long> ids = courseRepository.findAllBoundsIntersecting(tile.bufferedBoundingBox()).stream()
+                .filter(bounds -> !tile.isSubPixel(bounds.boundingBox()))
+                .map(CourseBounds::id)
+                .toList();
+        for (int from = 0; from < ids.size(); from += loadBatchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + loadBatchSize, ids.size()));
+            for (Course course : courseRepository.findAllByIdInOrderByIdAsc(batch)) {
+                addFeature(features, course.id(), course.name(), course.clipTo(tile));
+            }
+        }
+        return new CourseTile(tile, features);
+    }
+
+    private static void addFeature(List<CourseTile.Feature> features, Long courseId, String name, List<List<Coordinate>> parts) {
+        List<String> polylines = parts.stream()
+                .map(EncodedPolyline::encode)
+                .toList();
+        if (!polylines.isEmpty()) {
+            features.add(new CourseTile.Feature(courseId, name, polylines));
+        }
+    }
+
+    private record RenderedTile(long generation, CourseTile courseTile) {
+    }
+}
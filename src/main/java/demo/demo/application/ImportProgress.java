@@ -0,0 +1,104 @@
+package demo.demo.application;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ImportProgress {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final long id = SEQUENCE.incrementAndGet();
+    private final long startedAt = System.nanoTime();
+    private final LongAdder parsedFiles = new LongAdder();
+    private final LongAdder failedFiles = new LongAdder();
+    private final LongAdder parsedCourses = new LongAdder();
+    private final LongAdder rejectedCourses = new LongAdder();
+    private final LongAdder constructedCourses = new LongAdder();
+    private final LongAdder savedCourses = new LongAdder();
+    private final LongAdder savedCoordinates = new LongAdder();
+    private final AtomicLongArray busyNanos = new AtomicLongArray(ImportStage.values().length);
+
+    void fileParsed() {
+        parsedFiles.increment();
+    }
+
+    void fileFailed() {
+        failedFiles.increment();
+    }
+
+    void courseParsed() {
+        parsedCourses.increment();
+    }
+
+    void courseRejected() {
+        rejectedCourses.increment();
+    }
+
+    void courseConstructed() {
+        constructedCourses.increment();
+    }
+
+    void batchSaved(int courseCount, long coordinateCount) {
+        savedCourses.add(courseCount);
+        savedCoordinates.add(coordinateCount);
+    }
+
+    void busy(ImportStage stage, long nanos) {
+        busyNanos.addAndGet(stage.ordinal(), nanos);
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+
+    public long parsedFiles() {
+        return parsedFiles.sum();
+    }
+
+    public long failedFiles() {
+        return failedFiles.sum();
+    }
+
+    public long parsedCourses() {
+        return parsedCourses.sum();
+    }
+
+    public long rejectedCourses() {
+        return rejectedCourses.sum();
+    }
+
+    public long constructedCourses() {
+        return constructedCourses.sum();
+    }
+
+    public long savedCourses() {
+        return savedCourses.sum();
+    }
+
+    public long savedCoordinates() {
+        return savedCoordinates.sum();
+    }
+
+    public CourseImportReport report() {
+        Map<ImportStage, Duration> stageBusyTimes = new EnumMap<>(ImportStage.class);
+        for (ImportStage stage : ImportStage.values()) {
+            stageBusyTimes.put(stage, Duration.ofNanos(busyNanos.get(stage.ordinal())));
+        }
+        return new CourseImportReport(
+                parsedFiles(),
+                failedFiles(),
+                parsedCourses(),
+                rejectedCourses(),
+                new CourseImportResult(savedCourses(), savedCoordinates(), elapsed()),
+                stageBusyTimes
+        );
+    }
+}
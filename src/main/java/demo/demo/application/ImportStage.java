@@ -0,0 +1,5 @@
+package demo.demo.application;
+
+public enum ImportStage {
+    PARSE, CONSTRUCT, WRITE
+}
@@ -0,0 +1,126 @@
+package demo.demo.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseProgress;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RunnerTracker {
+
+    private final CourseCache courseCache;
+    private final double offCourseMeters;
+    private final int offCourseFixes;
+    private final int segmentWindow;
+    private final Cache<UUID, Session> sessions;
+
+    public RunnerTracker(
+            CourseCache courseCache,
+            @Value("${course.tracking.off-course-meters:50}") double offCourseMeters,
+            @Value("${course.tracking.off-course-fixes:3}") int offCourseFixes,
+            @Value("${course.tracking.segment-window:16}") int segmentWindow,
+            @Value("${course.tracking.session-timeout:30m}") Duration sessionTimeout,
+            @Value("${course.tracking.max-sessions:100000}") long maxSessions
+    ) {
+        if (offCourseMeters <= 0 || offCourseFixes < 1 || segmentWindow < 0) {
+            throw new IllegalArgumentException("");
+        }
+        this.courseCache = courseCache;
+        this.offCourseMeters = offCourseMeters;
+        this.offCourseFixes = offCourseFixes;
+        this.segmentWindow = segmentWindow;
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterAccess(sessionTimeout)
+                .maximumSize(maxSessions)
+                .build();
+    }
+
+    public TrackingStatus start(Long courseId) {
+        if (courseId == null) {
+            throw new IllegalArgumentException("");
+        }
+        Course course = courseOf(courseId);
+        UUID sessionId = UUID.randomUUID();
+        CourseProgress start = course.progressOf(course.coordinates().getFirst());
+        Session session = new Session(new TrackingStatus(sessionId, courseId, start, 0, 0, false));
+        sessions.put(sessionId, session);
+        return session.status.get();
+    }
+
+    public TrackingStatus update(UUID sessionId, Coordinate fix) {
+        Session session = sessionOf(sessionId);
+        Course course = courseOf(session.status.get().courseId());
+        while (true) {
+            TrackingStatus previous = session.status.get();
+            TrackingStatus next = next(course, previous, fix);
+            if (session.status.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    public TrackingStatus status(UUID sessionId) {
+        return sessionOf(sessionId).status.get();
+    }
+
+    public void end(UUID sessionId) {
+        if (sessions.asMap().remove(sessionId) == null) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    public long activeSessions() {
+        return sessions.estimatedSize();
+    }
+
+    private TrackingStatus next(Course course, TrackingStatus previous, Coordinate fix) {
+        CourseProgress progress = previous.fixCount() == 0
+                ? course.progressOf(fix)
+                : course.progressNear(fix, previous.progress().snappedCoordinate().segment(), segmentWindow);
+        if (previous.fixCount() > 0 && isBeyondCourse(progress)) {
+            progress = course.progressOf(fix);
+        }
+        int consecutiveOffCourseFixes = isBeyondCourse(progress) ? previous.consecutiveOffCourseFixes() + 1 : 0;
+        return new TrackingStatus(
+                previous.sessionId(),
+                previous.courseId(),
+                progress,
+                previous.fixCount() + 1,
+                consecutiveOffCourseFixes,
+                consecutiveOffCourseFixes >= offCourseFixes
+        );
+    }
+
+    private boolean isBeyondCourse(CourseProgress progress) {
+        return progress.snappedCoordinate().distance().value() > offCourseMeters;
+    }
+
+    private Course courseOf(Long courseId) {
+        return courseCache.findById(courseId)
+                .orElseThrow(NoSuchElementException::new);
+    }
+
+    private Session sessionOf(UUID sessionId) {
+        Session session = sessions.getIfPresent(sessionId);
+        if (session == null) {
+            throw new NoSuchElementException();
+        }
+        return session;
+    }
+
+    private static class Session {
+
+        private final AtomicReference<TrackingStatus> status;
+
+        private Session(TrackingStatus status) {
+            this.status = new AtomicReference<>(status);
+        }
+    }
+}
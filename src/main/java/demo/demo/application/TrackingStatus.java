@@ -0,0 +1,14 @@
+package demo.demo.application;
+
+import demo.demo.domain.CourseProgress;
+import java.util.UUID;
+
+public record TrackingStatus(
+        UUID sessionId,
+        Long courseId,
+        CourseProgress progress,
+        long fixCount,
+        int consecutiveOffCourseFixes,
+        boolean offCourse
+) {
+}
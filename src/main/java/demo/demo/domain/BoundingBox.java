@@ -0,0 +1,109 @@
+package demo.demo.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public record BoundingBox(
+        @Column(nullable = false)
+        double minLatitude,
+
+        @Column(nullable = false)
+        double maxLatitude,
+
+        @Column(nullable = false)
+        double minLongitude,
+
+        @Column(nullable = false)
+        double maxLongitude
+) {
+    private static final double MIN_LATITUDE = -90;
+    private static final double MAX_LATITUDE = 90;
+    private static final double MIN_LONGITUDE = -180;
+    private static final double MAX_LONGITUDE = 180;
+    private static final double LOWER_BOUND_SAFETY_FACTOR = 1 - 1e-9;
+
+    public static BoundingBox of(Coordinates coordinates) {
+        double minLatitude = Double.MAX_VALUE;
+        double maxLatitude = -Double.MAX_VALUE;
+        double minLongitude = Double.MAX_VALUE;
+        double maxLongitude = -Double.MAX_VALUE;
+        for (int i = 0; i < coordinates.size(); i++) {
+            minLatitude = Math.min(minLatitude, coordinates.latitude(i));
+            maxLatitude = Math.max(maxLatitude, coordinates.latitude(i));
+            minLongitude = Math.min(minLongitude, coordinates.longitude(i));
+            maxLongitude = Math.max(maxLongitude, coordinates.longitude(i));
+        }
+        return new BoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    public static BoundingBox world() {
+        return new BoundingBox(MIN_LATITUDE, MAX_LATITUDE, MIN_LONGITUDE, MAX_LONGITUDE);
+    }
+
+    public static BoundingBox around(Coordinate center, Meter radius) {
+        double angularRadius = radius.value() / Haversine.EARTH_RADIUS_METERS;
+        double latitude = Math.toRadians(center.latitude());
+        double minLatitude = latitude - angularRadius;
+        double maxLatitude = latitude + angularRadius;
+
+        if (minLatitude <= -Math.PI / 2 || maxLatitude >= Math.PI / 2) {
+            return new BoundingBox(
+                    Math.max(Math.toDegrees(minLatitude), MIN_LATITUDE),
+                    Math.min(Math.toDegrees(maxLatitude), MAX_LATITUDE),
+                    MIN_LONGITUDE,
+                    MAX_LONGITUDE
+            );
+        }
+
+        double longitudeDelta = Math.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(latitude)));
+        double minLongitude = center.longitude() - longitudeDelta;
+        double maxLongitude = center.longitude() + longitudeDelta;
+        if (minLongitude < MIN_LONGITUDE || maxLongitude > MAX_LONGITUDE) {
+            minLongitude = MIN_LONGITUDE;
+            maxLongitude = MAX_LONGITUDE;
+        }
+        return new BoundingBox(Math.toDegrees(minLatitude), Math.toDegrees(maxLatitude), minLongitude, maxLongitude);
+    }
+
+    public BoundingBox withFloorMargin() {
+        return new BoundingBox(
+                minLatitude - Coordinate.FLOOR_MARGIN_DEGREE,
+                maxLatitude + Coordinate.FLOOR_MARGIN_DEGREE,
+                minLongitude - Coordinate.FLOOR_MARGIN_DEGREE,
+                maxLongitude + Coordinate.FLOOR_MARGIN_DEGREE
+        );
+    }
+
+    public boolean intersects(BoundingBox other) {
+        return this.minLatitude <= other.maxLatitude && this.maxLatitude >= other.minLatitude
+                && this.minLongitude <= other.maxLongitude && this.maxLongitude >= other.minLongitude;
+    }
+
+    public Meter minimumDistanceFrom(Coordinate target) {
+        return new Meter(minimumDistance(minLatitude, maxLatitude, minLongitude, maxLongitude,
+                target.latitude(), target.longitude()));
+    }
+
+    static double minimumDistance(
+            double minLatitude, double maxLatitude, double minLongitude, double maxLongitude,
+            double targetLatitude, double targetLongitude
+    ) {
+        double latitudeGap = Math.max(0, Math.max(minLatitude - targetLatitude, targetLatitude - maxLatitude));
+        double longitudeGap = Math.max(0, Math.max(minLongitude - targetLongitude, targetLongitude - maxLongitude));
+        longitudeGap = Math.min(longitudeGap, 360 - longitudeGap);
+
+        double latitudeBound = Haversine.EARTH_RADIUS_METERS * Math.toRadians(latitudeGap);
+        double longitudeBound = 0;
+        if (longitudeGap < 90) {
+            longitudeBound = Haversine.EARTH_RADIUS_METERS
+                    * Math.asin(Math.cos(Math.toRadians(targetLatitude)) * Math.sin(Math.toRadians(longitudeGap)));
+        }
+        return Math.max(latitudeBound, longitudeBound) * LOWER_BOUND_SAFETY_FACTOR;
+    }
+
+    public boolean contains(Coordinate coordinate) {
+        return minLatitude <= coordinate.latitude() && coordinate.latitude() <= maxLatitude
+                && minLongitude <= coordinate.longitude() && coordinate.longitude() <= maxLongitude;
+    }
+}
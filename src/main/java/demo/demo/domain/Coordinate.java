@@ -15,10 +15,11 @@ public record Coordinate(
         double elevation
 ) {
     public Coordinate(double latitude, double longitude, double elevation) {
-        double roundedLatitude = Math.floor(latitude * 1000000.0) / 1000000.0;
-        double roundedLongitude = Math.floor(longitude * 1000000.0) / 1000000.0;
+        double roundedLatitude = floorToMicroDegree(latitude);
+        double roundedLongitude = floorToMicroDegree(longitude);
         validateLatitudeRange(roundedLatitude);
         validateLongitudeRange(roundedLongitude);
+        validateElevation(elevation);
         this.latitude = roundedLatitude;
         this.longitude = roundedLongitude;
         this.elevation = elevation;
@@ -56,6 +57,17 @@ public record Coordinate(
         return other.longitude < this.longitude;
     }
 
+    static final double FLOOR_MARGIN_DEGREE = 0.000002;
+
+    static double floorToMicroDegree(double degree) {
+        double microDegree = degree * 1000000.0;
+        double nearestMicroDegree = Math.rint(microDegree);
+        if (Math.abs(microDegree - nearestMicroDegree) < 1e-6) {
+            return nearestMicroDegree / 1000000.0;
+        }
+        return Math.floor(microDegree) / 1000000.0;
+    }
+
     private static void validateLatitudeRange(double roundedLatitude) {
         if (roundedLatitude < -90 || roundedLatitude > 90) {
             throw new IllegalArgumentException("");
@@ -67,4 +79,10 @@ public record Coordinate(
             throw new IllegalArgumentException("");
         }
     }
+
+    private static void validateElevation(double elevation) {
+        if (!Double.isFinite(elevation)) {
+            throw new IllegalArgumentException("");
+        }
+    }
 }
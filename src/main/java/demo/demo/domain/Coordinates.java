@@ -0,0 +1,198 @@
+package demo.demo.domain;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+public final class Coordinates implements PointSequence {
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] elevations;
+
+    Coordinates(double[] latitudes, double[] longitudes, double[] elevations) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.elevations = elevations;
+    }
+
+    public static Coordinates from(List<Coordinate> coordinates) {
+        int size = coordinates.size();
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] elevations = new double[size];
+        for (int i = 0; i < size; i++) {
+            Coordinate coordinate = coordinates.get(i);
+            latitudes[i] = coordinate.latitude();
+            longitudes[i] = coordinate.longitude();
+            elevations[i] = coordinate.elevation();
+        }
+        return new Coordinates(latitudes, longitudes, elevations);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public int size() {
+        return latitudes.length;
+    }
+
+    @Override
+    public double latitude(int index) {
+        return latitudes[index];
+    }
+
+    @Override
+    public double longitude(int index) {
+        return longitudes[index];
+    }
+
+    public double elevation(int index) {
+        return elevations[index];
+    }
+
+    double[] latitudes() {
+        return latitudes;
+    }
+
+    double[] longitudes() {
+        return longitudes;
+    }
+
+    @Override
+    public Coordinate get(int index) {
+        return new Coordinate(latitudes[index], longitudes[index], elevations[index]);
+    }
+
+    public Coordinate first() {
+        return get(0);
+    }
+
+    public Coordinate last() {
+        return get(size() - 1);
+    }
+
+    public boolean isClosed() {
+        int last = size() - 1;
+        return latitudes[0] == latitudes[last] && longitudes[0] == longitudes[last];
+    }
+
+    public Coordinates close() {
+        if (isClosed()) {
+            return this;
+        }
+        int size = size();
+        double[] latitudes = Arrays.copyOf(this.latitudes, size + 1);
+        double[] longitudes = Arrays.copyOf(this.longitudes, size + 1);
+        double[] elevations = Arrays.copyOf(this.elevations, size + 1);
+        latitudes[size] = latitudes[0];
+        longitudes[size] = longitudes[0];
+        elevations[size] = elevations[0];
+        return new Coordinates(latitudes, longitudes, elevations);
+    }
+
+    public Coordinates reverse() {
+        int size = size();
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] elevations = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = this.latitudes[size - 1 - i];
+            longitudes[i] = this.longitudes[size - 1 - i];
+            elevations[i] = this.elevations[size - 1 - i];
+        }
+        return new Coordinates(latitudes, longitudes, elevations);
+    }
+
+    Coordinates select(boolean[] selected, int selectedCount) {
+        double[] latitudes = new double[selectedCount];
+        double[] longitudes = new double[selectedCount];
+        double[] elevations = new double[selectedCount];
+        int position = 0;
+        for (int i = 0; i < size(); i++) {
+            if (selected[i]) {
+                latitudes[position] = this.latitudes[i];
+                longitudes[position] = this.longitudes[i];
+                elevations[position] = this.elevations[i];
+                position++;
+            }
+        }
+        return new Coordinates(latitudes, longitudes, elevations);
+    }
+
+    public List<Coordinate> asList() {
+        return new CoordinateListView();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Coordinates other)) return false;
+        return Arrays.equals(latitudes, other.latitudes)
+                && Arrays.equals(longitudes, other.longitudes)
+                && Arrays.equals(elevations, other.elevations);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(latitudes);
+        result = 31 * result + Arrays.hashCode(longitudes);
+        result = 31 * result + Arrays.hashCode(elevations);
+        return result;
+    }
+
+    private class CoordinateListView extends AbstractList<Coordinate> implements RandomAccess {
+
+        @Override
+        public Coordinate get(int index) {
+            return Coordinates.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return Coordinates.this.size();
+        }
+    }
+
+    public static class Builder {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        private double[] latitudes = new double[INITIAL_CAPACITY];
+        private double[] longitudes = new double[INITIAL_CAPACITY];
+        private double[] elevations = new double[INITIAL_CAPACITY];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(Coordinate coordinate) {
+            if (size == latitudes.length) {
+                int capacity = size * 2;
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                elevations = Arrays.copyOf(elevations, capacity);
+            }
+            latitudes[size] = coordinate.latitude();
+            longitudes[size] = coordinate.longitude();
+            elevations[size] = coordinate.elevation();
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Coordinates build() {
+            return new Coordinates(
+                    Arrays.copyOf(latitudes, size),
+                    Arrays.copyOf(longitudes, size),
+                    Arrays.copyOf(elevations, size)
+            );
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package demo.demo.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+
+@Converter
+public class CoordinatesConverter implements AttributeConverter<Coordinates, byte[]> {
+
+    private static final byte VERSION = 1;
+    private static final double DEGREE_SCALE = 1000000.0;
+    private static final double ELEVATION_SCALE = 1000.0;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    @Override
+    public byte[] convertToDatabaseColumn(Coordinates coordinates) {
+        if (coordinates == null) {
+            return null;
+        }
+        int size = coordinates.size();
+        byte[] buffer = new byte[1 + MAX_VARINT_BYTES + size * 3 * MAX_VARINT_BYTES];
+        buffer[0] = VERSION;
+        int position = writeVarLong(buffer, 1, size);
+
+        long previousLatitude = 0;
+        long previousLongitude = 0;
+        long previousElevation = 0;
+        for (int i = 0; i < size; i++) {
+            long latitude = Math.round(coordinates.latitude(i) * DEGREE_SCALE);
+            long longitude = Math.round(coordinates.longitude(i) * DEGREE_SCALE);
+            long elevation = Math.round(coordinates.elevation(i) * ELEVATION_SCALE);
+            position = writeVarLong(buffer, position, zigZag(latitude - previousLatitude));
+            position = writeVarLong(buffer, position, zigZag(longitude - previousLongitude));
+            position = writeVarLong(buffer, position, zigZag(elevation - previousElevation));
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+            previousElevation = elevation;
+        }
+        return Arrays.copyOf(buffer, position);
+    }
+
+    @Override
+    public Coordinates convertToEntityAttribute(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0 || data[0] != VERSION) {
+            throw new IllegalArgumentException("");
+        }
+        Reader reader = new Reader(data, 1);
+        int size = (int) reader.readVarLong();
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] elevations = new double[size];
+
+        long latitude = 0;
+        long longitude = 0;
+        long elevation = 0;
+        for (int i = 0; i < size; i++) {
+            latitude += unZigZag(reader.readVarLong());
+            longitude += unZigZag(reader.readVarLong());
+            elevation += unZigZag(reader.readVarLong());
+            latitudes[i] = latitude / DEGREE_SCALE;
+            longitudes[i] = longitude / DEGREE_SCALE;
+            elevations[i] = elevation / ELEVATION_SCALE;
+        }
+        return new Coordinates(latitudes, longitudes, elevations);
+    }
+
+    private static int writeVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static class Reader {
+
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= data.length || shift >= 64) {
+                    throw new IllegalArgumentException("");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+    }
+}
@@ -1,26 +1,47 @@
 package demo.demo.domain;
 
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import java.util.ArrayList;
-import java.util.Collections;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.DomainEvents;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_course_latitude", columnList = "min_latitude, max_latitude"),
+        @Index(name = "idx_course_longitude", columnList = "min_longitude, max_longitude"),
+        @Index(name = "idx_course_road_type_length", columnList = "road_type, length"),
+        @Index(name = "idx_course_difficulty", columnList = "difficulty")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
 public class Course {
 
+    private static final int SNAP_LOOKAHEAD_SEGMENTS = 16;
+    private static final int PARALLEL_SNAP_THRESHOLD = 8192;
+    private static final int PARALLEL_SNAP_CHUNK_SIZE = 2048;
+    private static final double ASCENT_EQUIVALENT_METERS = 8;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_id_generator")
+    @SequenceGenerator(name = "course_id_generator", sequenceName = "course_seq", allocationSize = 100)
     private final Long id;
 
     @Column(nullable = false, length = 50)
@@ -29,73 +50,221 @@ public class Course {
     @Enumerated(EnumType.STRING)
     private final RoadType roadType;
 
-    @ElementCollection
-    @CollectionTable(name = "coordinate")
-    private final List<Coordinate> coordinates;
+    @Lob
+    @Immutable
+    @Convert(converter = CoordinatesConverter.class)
+    @Column(nullable = false)
+    private final Coordinates coordinates;
+
+    @Embedded
+    private final BoundingBox boundingBox;
+
+    @Embedded
+    private final ElevationProfile elevationProfile;
+
+    @Column(nullable = false)
+    private final double length;
+
+    @Column(nullable = false)
+    private final double difficulty;
+
+    @Transient
+    private double[] cumulativeDistances;
+
+    @Transient
+    private volatile SegmentIndex segmentIndex;
+
+    @Transient
+    private final AtomicReferenceArray<Coordinates> simplifiedCoordinates =
+            new AtomicReferenceArray<>(SimplificationLevel.values().length);
 
     public Course(String name, RoadType roadType, List<Coordinate> coordinates) {
+        this(name, roadType, Coordinates.from(coordinates));
+    }
+
+    public Course(String name, List<Coordinate> coordinates) {
+        this(name, RoadType.알수없음, coordinates);
+    }
+
+    public Course(String name, RoadType roadType, Coordinates coordinates) {
+        this(null, name, roadType, coordinates, true);
+    }
+
+    private Course(Long id, String name, RoadType roadType, Coordinates coordinates, boolean normalize) {
         String compactName = compactName(name);
         validateNameLength(compactName);
         validateCoordinatesCount(coordinates);
 
-        this.id = null;
+        this.id = id;
         this.name = compactName;
         this.roadType = roadType;
-        this.coordinates = sortByCounterClockwise(connectStartEndCoordinate(coordinates));
+        this.coordinates = normalize ? sortByCounterClockwise(connectStartEndCoordinate(coordinates)) : coordinates;
+        this.boundingBox = BoundingBox.of(this.coordinates);
+        this.cumulativeDistances = cumulativeDistancesOf(this.coordinates);
+        this.length = cumulativeDistances[cumulativeDistances.length - 1];
+        this.elevationProfile = ElevationProfile.of(this.coordinates, cumulativeDistances);
+        this.difficulty = difficultyOf(roadType, this.length + ASCENT_EQUIVALENT_METERS * elevationProfile.ascent());
     }
 
-    public Course(String name, List<Coordinate> coordinates) {
-        this(name, RoadType.알수없음, coordinates);
+    public static Course from(CourseGeometry geometry) {
+        return new Course(geometry.id(), geometry.name(), geometry.roadType(), geometry.toCoordinates(), false);
     }
 
     public Meter length() {
-        Meter total = Meter.zero();
+        return new Meter(length);
+    }
+
+    public Meter lengthUntil(int coordinateIndex) {
+        return new Meter(cumulativeDistances[coordinateIndex]);
+    }
+
+    public Meter lengthAlong(SnappedCoordinate snappedCoordinate) {
+        int segment = snappedCoordinate.segment();
+        Coordinate snapped = snappedCoordinate.coordinate();
+        double offset = Haversine.distance(
+                coordinates.latitude(segment), coordinates.longitude(segment),
+                snapped.latitude(), snapped.longitude()
+        );
+        return new Meter(Math.min(cumulativeDistances[segment] + offset, length));
+    }
 
-        for (int i = 0; i < coordinates.size() - 1; i++) {
-            Coordinate coord1 = coordinates.get(i);
-            Coordinate coord2 = coordinates.get(i + 1);
+    public CourseProgress progressOf(Coordinate position) {
+        return progressAt(snap(position));
+    }
 
-            Meter meter = GeoLine.between(coord1, coord2).length();
-            total = total.add(meter);
+    public CourseProgress progressNear(Coordinate position, int segment, int segmentWindow) {
+        int segmentCount = coordinates.size() - 1;
+        if (segment < 0 || segment >= segmentCount || segmentWindow < 0) {
+            throw new IllegalArgumentException("");
+        }
+        int bestSegment = segment;
+        double bestDistance = Double.MAX_VALUE;
+        for (int offset = -segmentWindow; offset <= segmentWindow; offset++) {
+            int candidate = Math.floorMod(segment + offset, segmentCount);
+            double distance = SegmentIndex.distanceToSegment(coordinates, candidate, position.latitude(), position.longitude());
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestSegment = candidate;
+            }
         }
+        return progressAt(snappedCoordinateOf(position, bestSegment));
+    }
+
+    private CourseProgress progressAt(SnappedCoordinate snappedCoordinate) {
+        Meter covered = lengthAlong(snappedCoordinate);
+        return new CourseProgress(snappedCoordinate, covered, new Meter(length - covered.value()));
+    }
+
+    public Meter remainingLengthFrom(Coordinate position) {
+        return progressOf(position).remaining();
+    }
 
-        return total;
+    public Coordinate coordinateAt(Meter distance) {
+        if (!Double.isFinite(distance.value())) {
+            throw new IllegalArgumentException("");
+        }
+        double target = Math.clamp(distance.value(), 0, cumulativeDistances[cumulativeDistances.length - 1]);
+        int index = Arrays.binarySearch(cumulativeDistances, target);
+        if (index >= 0) {
+            return coordinates.get(index);
+        }
+        int segment = -index - 2;
+        double ratio = (target - cumulativeDistances[segment]) / (cumulativeDistances[segment + 1] - cumulativeDistances[segment]);
+        return coordinates.get(segment).moveTo(coordinates.get(segment + 1), ratio);
     }
 
     public Coordinate closestCoordinateFrom(Coordinate target) {
-        Coordinate closestCoordinate = coordinates.getFirst();
-        Meter minDistance = Meter.max();
+        return snap(target).coordinate();
+    }
+
+    public Meter distanceFrom(Coordinate target) {
+        return snap(target).distance();
+    }
 
-        for (int i = 0; i < coordinates.size() - 1; i++) {
-            GeoLine line = GeoLine.between(coordinates.get(i), coordinates.get(i + 1));
+    public boolean isWithin(Meter distance, Coordinate target) {
+        if (boundingBox.minLatitude() == boundingBox.maxLatitude() && boundingBox.minLongitude() == boundingBox.maxLongitude()) {
+            return distanceFrom(target).isWithin(distance);
+        }
+        return segmentIndex().anySegmentWithin(target.latitude(), target.longitude(), distance.value());
+    }
+
+    public SnappedCoordinate snap(Coordinate target) {
+        int segment = segmentIndex().nearestSegment(target.latitude(), target.longitude());
+        return snappedCoordinateOf(target, segment);
+    }
+
+    public List<SnappedCoordinate> snapAll(List<Coordinate> targets) {
+        if (targets.size() < PARALLEL_SNAP_THRESHOLD) {
+            return Arrays.asList(snapSequentially(targets));
+        }
+        int chunkCount = (targets.size() + PARALLEL_SNAP_CHUNK_SIZE - 1) / PARALLEL_SNAP_CHUNK_SIZE;
+        SnappedCoordinate[][] chunks = new SnappedCoordinate[chunkCount][];
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int from = chunk * PARALLEL_SNAP_CHUNK_SIZE;
+            int to = Math.min(from + PARALLEL_SNAP_CHUNK_SIZE, targets.size());
+            chunks[chunk] = snapSequentially(targets.subList(from, to));
+        });
+        return Arrays.stream(chunks).flatMap(Arrays::stream).toList();
+    }
 
-            Coordinate closestCoordinateOnLine = line.closestCoordinateFrom(target);
-            Meter distanceOnLine = GeoLine.between(target, closestCoordinateOnLine).length();
-            if (distanceOnLine.isWithin(minDistance)) {
-                minDistance = distanceOnLine;
-                closestCoordinate = closestCoordinateOnLine;
+    private SnappedCoordinate[] snapSequentially(List<Coordinate> targets) {
+        SegmentIndex index = segmentIndex();
+        SnappedCoordinate[] snappedCoordinates = new SnappedCoordinate[targets.size()];
+        int previousSegment = SegmentIndex.NO_SEGMENT;
+        for (int i = 0; i < targets.size(); i++) {
+            Coordinate target = targets.get(i);
+            int segment = nearestSegmentAfter(index, target, previousSegment);
+            snappedCoordinates[i] = snappedCoordinateOf(target, segment);
+            previousSegment = segment;
+        }
+        return snappedCoordinates;
+    }
+
+    private int nearestSegmentAfter(SegmentIndex index, Coordinate target, int previousSegment) {
+        if (previousSegment == SegmentIndex.NO_SEGMENT) {
+            return index.nearestSegment(target.latitude(), target.longitude());
+        }
+        int segmentCount = coordinates.size() - 1;
+        int candidateSegment = SegmentIndex.NO_SEGMENT;
+        double candidateDistance = Double.MAX_VALUE;
+        for (int offset = 0; offset < Math.min(SNAP_LOOKAHEAD_SEGMENTS, segmentCount); offset++) {
+            int segment = (previousSegment + offset) % segmentCount;
+            double distance = SegmentIndex.distanceToSegment(coordinates, segment, target.latitude(), target.longitude());
+            if (distance < candidateDistance || (distance == candidateDistance && segment > candidateSegment)) {
+                candidateDistance = distance;
+                candidateSegment = segment;
             }
         }
+        return index.nearestSegment(target.latitude(), target.longitude(), candidateSegment, candidateDistance);
+    }
 
-        return closestCoordinate;
+    private SnappedCoordinate snappedCoordinateOf(Coordinate target, int segment) {
+        if (segment == SegmentIndex.NO_SEGMENT) {
+            Coordinate first = coordinates.first();
+            return new SnappedCoordinate(first, 0, new Meter(Haversine.distance(first, target)));
+        }
+        Coordinate closestCoordinate = GeoLine.between(coordinates.get(segment), coordinates.get(segment + 1))
+                .closestCoordinateFrom(target);
+        return new SnappedCoordinate(closestCoordinate, segment, new Meter(Haversine.distance(closestCoordinate, target)));
     }
 
-    public Meter distanceFrom(Coordinate target) {
-        Coordinate minDistanceCoordinate = closestCoordinateFrom(target);
-        return GeoLine.between(minDistanceCoordinate, target).length();
+    public List<Coordinate> simplifiedCoordinates(SimplificationLevel level) {
+        return simplifiedPackedCoordinates(level).asList();
     }
 
-    public double difficulty() {
-        Meter length = length();
-        if (length.isWithin(Meter.zero())) return 1.0;
+    public List<Coordinate> coordinatesForZoom(int zoom) {
+        double centerLatitude = (boundingBox.minLatitude() + boundingBox.maxLatitude()) / 2;
+        return SimplificationLevel.forZoom(zoom, centerLatitude)
+                .map(this::simplifiedCoordinates)
+                .orElseGet(this::coordinates);
+    }
 
-        double score = switch (roadType) {
-            case RoadType.보도, RoadType.알수없음 -> 1 + (9.0 / 42195) * length.value();
-            case RoadType.트랙 -> 1.0 + (9.0 / 60000) * length.value();
-            case RoadType.트레일 -> 1.0 + (9.0 / 22000) * length.value();
-        };
+    public List<List<Coordinate>> clipTo(Tile tile) {
+        return TileClipper.clipAndSimplify(coordinates, boundingBox, tile);
+    }
 
-        return Math.clamp(score, 1, 10);
+    public double difficulty() {
+        return difficulty;
     }
 
     public Long id() {
@@ -107,6 +276,10 @@ public class Course {
     }
 
     public List<Coordinate> coordinates() {
+        return coordinates.asList();
+    }
+
+    Coordinates packedCoordinates() {
         return coordinates;
     }
 
@@ -114,6 +287,64 @@ public class Course {
         return roadType;
     }
 
+    public BoundingBox boundingBox() {
+        return boundingBox;
+    }
+
+    public ElevationProfile elevationProfile() {
+        return elevationProfile;
+    }
+
+    private SegmentIndex segmentIndex() {
+        SegmentIndex index = segmentIndex;
+        if (index == null) {
+            index = new SegmentIndex(coordinates);
+            segmentIndex = index;
+        }
+        return index;
+    }
+
+    private Coordinates simplifiedPackedCoordinates(SimplificationLevel level) {
+        Coordinates simplified = simplifiedCoordinates.get(level.ordinal());
+        if (simplified == null) {
+            simplified = PolylineSimplifier.simplify(coordinates, level.toleranceMeter());
+            simplifiedCoordinates.set(level.ordinal(), simplified);
+        }
+        return simplified;
+    }
+
+    @DomainEvents
+    private List<CourseSaved> domainEvents() {
+        return List.of(new CourseSaved(this));
+    }
+
+    @PostLoad
+    private void loadCumulativeDistances() {
+        this.cumulativeDistances = cumulativeDistancesOf(coordinates);
+    }
+
+    private static double[] cumulativeDistancesOf(Coordinates coordinates) {
+        double[] segmentLengths = new double[Math.max(0, coordinates.size() - 1)];
+        GeoKernels.INSTANCE.segmentLengths(coordinates.latitudes(), coordinates.longitudes(), segmentLengths);
+        double[] cumulativeDistances = new double[coordinates.size()];
+        for (int i = 1; i < coordinates.size(); i++) {
+            cumulativeDistances[i] = cumulativeDistances[i - 1] + segmentLengths[i - 1];
+        }
+        return cumulativeDistances;
+    }
+
+    private static double difficultyOf(RoadType roadType, double effortLength) {
+        if (effortLength <= 0) return 1.0;
+
+        double score = switch (roadType) {
+            case RoadType.보도, RoadType.알수없음 -> 1 + (9.0 / 42195) * effortLength;
+            case RoadType.트랙 -> 1.0 + (9.0 / 60000) * effortLength;
+            case RoadType.트레일 -> 1.0 + (9.0 / 22000) * effortLength;
+        };
+
+        return Math.clamp(score, 1, 10);
+    }
+
     private static String compactName(String name) {
         return name.trim().replaceAll("\\s+", " ");
     }
@@ -124,47 +355,37 @@ public class Course {
         }
     }
 
-    private static void validateCoordinatesCount(List<Coordinate> coordinates) {
+    private static void validateCoordinatesCount(Coordinates coordinates) {
         if (coordinates.size() < 2) {
             throw new IllegalArgumentException("");
         }
     }
 
-    private List<Coordinate> connectStartEndCoordinate(List<Coordinate> coordinates) {
-        if (isFirstAndLastCoordinateDifferent(coordinates)) {
-            coordinates = new ArrayList<>(coordinates);
-            coordinates.add(coordinates.getFirst());
-        }
-        return coordinates;
+    private static Coordinates connectStartEndCoordinate(Coordinates coordinates) {
+        return coordinates.close();
     }
 
-    private static boolean isFirstAndLastCoordinateDifferent(List<Coordinate> coordinates) {
-        return !coordinates.getFirst().hasSameLatitudeAndLongitude(coordinates.getLast());
-    }
-
-    private static List<Coordinate> sortByCounterClockwise(List<Coordinate> coordinates) {
+    private static Coordinates sortByCounterClockwise(Coordinates coordinates) {
         int lowestCoordinateIndex = findLowestCoordinateIndex(coordinates);
-        List<Coordinate> counterClockWiseCoordinates = new ArrayList<>(coordinates);
         if (isClockwise(coordinates, lowestCoordinateIndex)) {
-            Collections.reverse(counterClockWiseCoordinates);
+            return coordinates.reverse();
         }
-        return counterClockWiseCoordinates;
+        return coordinates;
     }
 
-    private static int findLowestCoordinateIndex(List<Coordinate> coordinates) {
+    private static int findLowestCoordinateIndex(Coordinates coordinates) {
         int lowestCoordinateIndex = 0;
         double lowestLatitude = Double.MAX_VALUE;
         for (int i = 0; i < coordinates.size(); i++) {
-            Coordinate coordinate = coordinates.get(i);
-            if (coordinate.latitude() < lowestLatitude) {
-                lowestLatitude = coordinate.latitude();
+            if (coordinates.latitude(i) < lowestLatitude) {
+                lowestLatitude = coordinates.latitude(i);
                 lowestCoordinateIndex = i;
             }
         }
         return lowestCoordinateIndex;
     }
 
-    private static boolean isClockwise(List<Coordinate> coordinates, int lowestCoordinateIndex) {
+    private static boolean isClockwise(Coordinates coordinates, int lowestCoordinateIndex) {
         int nextIndex = (lowestCoordinateIndex + 1) % (coordinates.size() - 1);
         return coordinates.get(lowestCoordinateIndex).isRightOf(coordinates.get(nextIndex));
     }
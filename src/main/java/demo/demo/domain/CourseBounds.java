@@ -0,0 +1,18 @@
+package demo.demo.domain;
+
+public record CourseBounds(
+        Long id,
+        BoundingBox boundingBox
+) {
+    public CourseBounds(Long id, double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        this(id, new BoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude));
+    }
+
+    public Meter minimumDistanceFrom(Coordinate target) {
+        return new Meter(BoundingBox.minimumDistance(
+                boundingBox.minLatitude() - Coordinate.FLOOR_MARGIN_DEGREE, boundingBox.maxLatitude(),
+                boundingBox.minLongitude() - Coordinate.FLOOR_MARGIN_DEGREE, boundingBox.maxLongitude(),
+                target.latitude(), target.longitude()
+        ));
+    }
+}
@@ -0,0 +1,11 @@
+package demo.demo.domain;
+
+public record CourseDraft(
+        String name,
+        RoadType roadType,
+        Coordinates coordinates
+) {
+    public Course toCourse() {
+        return new Course(name, roadType, coordinates);
+    }
+}
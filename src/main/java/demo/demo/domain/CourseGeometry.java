@@ -0,0 +1,230 @@
+package demo.demo.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public final class CourseGeometry implements PointSequence {
+
+    public static final int HEADER_BYTES = 72;
+
+    private static final int ID_OFFSET = 0;
+    private static final int SIZE_OFFSET = 8;
+    private static final int ROAD_TYPE_OFFSET = 12;
+    private static final int MIN_LATITUDE_OFFSET = 16;
+    private static final int MAX_LATITUDE_OFFSET = 24;
+    private static final int MIN_LONGITUDE_OFFSET = 32;
+    private static final int MAX_LONGITUDE_OFFSET = 40;
+    private static final int LENGTH_OFFSET = 48;
+    private static final int DIFFICULTY_OFFSET = 56;
+    private static final int NAME_BYTES_OFFSET = 64;
+    private static final double DEGREE_SCALE = 1000000.0;
+    private static final double ELEVATION_SCALE = 1000.0;
+    private static final RoadType[] ROAD_TYPES = RoadType.values();
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int size;
+    private volatile SegmentIndex segmentIndex;
+
+    private CourseGeometry(ByteBuffer buffer, int offset, int size) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    public static int encodedSize(Course course) {
+        return encodedSize(course.packedCoordinates().size(), nameBytesOf(course).length);
+    }
+
+    public static int sizeAt(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + SIZE_OFFSET);
+    }
+
+    public static CourseGeometry write(ByteBuffer buffer, int offset, Course course) {
+        Coordinates coordinates = course.packedCoordinates();
+        BoundingBox boundingBox = course.boundingBox();
+        byte[] name = nameBytesOf(course);
+        int size = coordinates.size();
+        buffer.putLong(offset + ID_OFFSET, course.id());
+        buffer.putInt(offset + ROAD_TYPE_OFFSET, course.roadType().ordinal());
+        buffer.putDouble(offset + MIN_LATITUDE_OFFSET, boundingBox.minLatitude());
+        buffer.putDouble(offset + MAX_LATITUDE_OFFSET, boundingBox.maxLatitude());
+        buffer.putDouble(offset + MIN_LONGITUDE_OFFSET, boundingBox.minLongitude());
+        buffer.putDouble(offset + MAX_LONGITUDE_OFFSET, boundingBox.maxLongitude());
+        buffer.putDouble(offset + LENGTH_OFFSET, course.length().value());
+        buffer.putDouble(offset + DIFFICULTY_OFFSET, course.difficulty());
+        buffer.putInt(offset + NAME_BYTES_OFFSET, name.length);
+
+        CourseGeometry geometry = new CourseGeometry(buffer, offset, size);
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(geometry.latitudeOffset(i), Math.toIntExact(Math.round(coordinates.latitude(i) * DEGREE_SCALE)));
+            buffer.putInt(geometry.longitudeOffset(i), Math.toIntExact(Math.round(coordinates.longitude(i) * DEGREE_SCALE)));
+            buffer.putInt(geometry.elevationOffset(i), encodeElevation(coordinates.elevation(i)));
+        }
+        buffer.put(geometry.nameOffset(), name);
+        buffer.putInt(offset + SIZE_OFFSET, size);
+        return geometry;
+    }
+
+    public static CourseGeometry read(ByteBuffer buffer, int offset) {
+        return new CourseGeometry(buffer, offset, sizeAt(buffer, offset));
+    }
+
+    public CourseGeometry copyTo(ByteBuffer target, int targetOffset) {
+        target.put(targetOffset, buffer, offset, encodedSize());
+        return new CourseGeometry(target, targetOffset, size);
+    }
+
+    public int encodedSize() {
+        return encodedSize(size, nameBytes());
+    }
+
+    public long id() {
+        return buffer.getLong(offset + ID_OFFSET);
+    }
+
+    public String name() {
+        byte[] name = new byte[nameBytes()];
+        buffer.get(nameOffset(), name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    public RoadType roadType() {
+        return ROAD_TYPES[buffer.getInt(offset + ROAD_TYPE_OFFSET)];
+    }
+
+    public Meter length() {
+        return new Meter(buffer.getDouble(offset + LENGTH_OFFSET));
+    }
+
+    public double difficulty() {
+        return buffer.getDouble(offset + DIFFICULTY_OFFSET);
+    }
+
+    public CourseSummary summary() {
+        return new CourseSummary(id(), name(), roadType(), length(), difficulty());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double latitude(int index) {
+        return buffer.getInt(latitudeOffset(index)) / DEGREE_SCALE;
+    }
+
+    @Override
+    public double longitude(int index) {
+        return buffer.getInt(longitudeOffset(index)) / DEGREE_SCALE;
+    }
+
+    public double elevation(int index) {
+        return buffer.getInt(elevationOffset(index)) / ELEVATION_SCALE;
+    }
+
+    @Override
+    public Coordinate get(int index) {
+        return new Coordinate(latitude(index), longitude(index), elevation(index));
+    }
+
+    public BoundingBox boundingBox() {
+        return new BoundingBox(
+                buffer.getDouble(offset + MIN_LATITUDE_OFFSET),
+                buffer.getDouble(offset + MAX_LATITUDE_OFFSET),
+                buffer.getDouble(offset + MIN_LONGITUDE_OFFSET),
+                buffer.getDouble(offset + MAX_LONGITUDE_OFFSET)
+        );
+    }
+
+    public Coordinates toCoordinates() {
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] elevations = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = latitude(i);
+            longitudes[i] = longitude(i);
+            elevations[i] = elevation(i);
+        }
+        return new Coordinates(latitudes, longitudes, elevations);
+    }
+
+    public SnappedCoordinate snap(Coordinate target) {
+        int segment = segmentIndex().nearestSegment(target.latitude(), target.longitude());
+        if (segment == SegmentIndex.NO_SEGMENT) {
+            Coordinate first = get(0);
+            return new SnappedCoordinate(first, 0, new Meter(Haversine.distance(first, target)));
+        }
+        Coordinate closestCoordinate = GeoLine.between(get(segment), get(segment + 1))
+                .closestCoordinateFrom(target);
+        return new SnappedCoordinate(closestCoordinate, segment, new Meter(Haversine.distance(closestCoordinate, target)));
+    }
+
+    public List<SnappedCoordinate> snapAll(List<Coordinate> targets) {
+        return targets.stream()
+                .map(this::snap)
+                .toList();
+    }
+
+    public Meter distanceFrom(Coordinate target) {
+        return snap(target).distance();
+    }
+
+    public boolean isWithin(Meter distance, Coordinate target) {
+        BoundingBox boundingBox = boundingBox();
+        if (boundingBox.minLatitude() == boundingBox.maxLatitude() && boundingBox.minLongitude() == boundingBox.maxLongitude()) {
+            return distanceFrom(target).isWithin(distance);
+        }
+        return segmentIndex().anySegmentWithin(target.latitude(), target.longitude(), distance.value());
+    }
+
+    public List<List<Coordinate>> clipTo(Tile tile) {
+        return TileClipper.clipAndSimplify(this, boundingBox(), tile);
+    }
+
+    private SegmentIndex segmentIndex() {
+        SegmentIndex index = segmentIndex;
+        if (index == null) {
+            index = new SegmentIndex(this);
+            segmentIndex = index;
+        }
+        return index;
+    }
+
+    private int nameBytes() {
+        return buffer.getInt(offset + NAME_BYTES_OFFSET);
+    }
+
+    private int latitudeOffset(int index) {
+        return offset + HEADER_BYTES + index * Integer.BYTES;
+    }
+
+    private int longitudeOffset(int index) {
+        return offset + HEADER_BYTES + (size + index) * Integer.BYTES;
+    }
+
+    private int elevationOffset(int index) {
+        return offset + HEADER_BYTES + (size * 2 + index) * Integer.BYTES;
+    }
+
+    private int nameOffset() {
+        return offset + HEADER_BYTES + size * 3 * Integer.BYTES;
+    }
+
+    private static int encodeElevation(double elevation) {
+        if (!Double.isFinite(elevation)) {
+            throw new IllegalArgumentException("");
+        }
+        return Math.clamp(Math.round(elevation * ELEVATION_SCALE), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static int encodedSize(int coordinateCount, int nameBytes) {
+        return HEADER_BYTES + coordinateCount * 3 * Integer.BYTES + nameBytes;
+    }
+
+    private static byte[] nameBytesOf(Course course) {
+        return course.name().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+package demo.demo.domain;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public interface CourseGeometryStore {
+
+    void putAll(Collection<Course> courses);
+
+    void removeAll(Collection<Long> courseIds);
+
+    Optional<CourseGeometry> findById(Long courseId);
+
+    Collection<CourseGeometry> findAll();
+
+    List<CourseGeometry> findAllIntersecting(BoundingBox area);
+
+    int size();
+
+    default List<NearCourse> findAllHasDistanceWithin(Coordinate target, Meter meter) {
+        return findAllHasDistanceWithin(target, meter, CourseMetrics.NOOP);
+    }
+
+    default List<NearCourse> findAllHasDistanceWithin(Coordinate target, Meter meter, CourseMetrics metrics) {
+        long startedAt = metrics.enabled() ? System.nanoTime() : 0;
+        List<CourseGeometry> candidates = findAllIntersecting(BoundingBox.around(target, meter));
+        List<NearCourse> courses = candidates.stream()
+                .filter(geometry -> geometry.isWithin(meter, target))
+                .sorted(Comparator.comparingLong(CourseGeometry::id))
+                .map(geometry -> new NearCourse(geometry.summary(), geometry.distanceFrom(target)))
+                .toList();
+        if (metrics.enabled()) {
+            metrics.recordDistanceSearch(System.nanoTime() - startedAt, candidates.size(), courses.size());
+        }
+        return courses;
+    }
+
+    default List<NearCourse> findNearest(Coordinate target, int k) {
+        return new NearestCourseSearch(this, target, k).search();
+    }
+}
@@ -0,0 +1,39 @@
+package demo.demo.domain;
+
+public interface CourseMetrics {
+
+    CourseMetrics NOOP = new CourseMetrics() {
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+
+        @Override
+        public void recordDistanceSearch(long elapsedNanos, int scannedCount, int matchedCount) {
+        }
+
+        @Override
+        public void recordSnap(long elapsedNanos, int coordinateCount) {
+        }
+
+        @Override
+        public void recordParse(long elapsedNanos, long pointCount, long byteCount) {
+        }
+
+        @Override
+        public void recordConstruction(long elapsedNanos, int coordinateCount) {
+        }
+    };
+
+    default boolean enabled() {
+        return true;
+    }
+
+    void recordDistanceSearch(long elapsedNanos, int scannedCount, int matchedCount);
+
+    void recordSnap(long elapsedNanos, int coordinateCount);
+
+    void recordParse(long elapsedNanos, long pointCount, long byteCount);
+
+    void recordConstruction(long elapsedNanos, int coordinateCount);
+}
@@ -2,10 +2,30 @@ package demo.demo.domain;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CourseParser {
 
     boolean canParse(String fileExtension);
-    
-    List<Course> parse(InputStream fileStream);
+
+    boolean canParse(byte[] header);
+
+    Stream<CourseDraft> readDrafts(InputStream fileStream);
+
+    default Stream<CourseDraft> streamDrafts(InputStream fileStream, CourseMetrics metrics) {
+        if (!metrics.enabled()) {
+            return readDrafts(fileStream);
+        }
+        return MeteredCourseDrafts.read(this, fileStream, metrics);
+    }
+
+    default List<Course> parse(InputStream fileStream) {
+        try (Stream<Course> courses = stream(fileStream)) {
+            return courses.toList();
+        }
+    }
+
+    default Stream<Course> stream(InputStream fileStream) {
+        return readDrafts(fileStream).map(CourseDraft::toCourse);
+    }
 }
@@ -0,0 +1,8 @@
+package demo.demo.domain;
+
+public record CourseProgress(
+        SnappedCoordinate snappedCoordinate,
+        Meter covered,
+        Meter remaining
+) {
+}
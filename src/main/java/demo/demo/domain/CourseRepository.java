@@ -1,7 +1,10 @@
 package demo.demo.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 
 public interface CourseRepository extends Repository<Course, Long> {
@@ -12,9 +15,76 @@ public interface CourseRepository extends Repository<Course, Long> {
 
     Optional<Course> findById(Long id);
 
-    default List<Course> findAllHasDistanceWithin(Coordinate target, Meter meter) {
-        return findAll().stream()
-                .filter(c -> c.distanceFrom(target).isWithin(meter))
+    List<Course> findAllByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("""
+            select new demo.demo.domain.CourseSummary(c.id, c.name, c.roadType, c.length, c.difficulty)
+            from Course c
+            where c.id in :ids
+            order by c.id
+            """)
+    List<CourseSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query("select c.id from Course c where c.id > :afterId order by c.id")
+    List<Long> findIdsAfter(long afterId, Limit limit);
+
+    @Query("""
+            select new demo.demo.domain.CourseBounds(c.id, c.boundingBox.minLatitude, c.boundingBox.maxLatitude,
+                                                     c.boundingBox.minLongitude, c.boundingBox.maxLongitude)
+            from Course c
+            where c.boundingBox.minLatitude <= :maxLatitude and c.boundingBox.maxLatitude >= :minLatitude
+              and c.boundingBox.minLongitude <= :maxLongitude and c.boundingBox.maxLongitude >= :minLongitude
+            """)
+    List<CourseBounds> findAllBoundsIntersecting(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude);
+
+    default List<CourseBounds> findAllBoundsIntersecting(BoundingBox boundingBox) {
+        BoundingBox area = boundingBox.withFloorMargin();
+        return findAllBoundsIntersecting(area.minLatitude(), area.maxLatitude(), area.minLongitude(), area.maxLongitude());
+    }
+
+    @Query("""
+            select c.id from Course c
+            where c.boundingBox.minLatitude <= :maxLatitude and c.boundingBox.maxLatitude >= :minLatitude
+              and c.boundingBox.minLongitude <= :maxLongitude and c.boundingBox.maxLongitude >= :minLongitude
+              and (:roadType is null or c.roadType = :roadType)
+              and c.length between :minLength and :maxLength
+              and c.difficulty between :minDifficulty and :maxDifficulty
+              and c.id > :afterId
+            order by c.id
+            """)
+    List<Long> findIdsMatching(
+            double minLatitude, double maxLatitude, double minLongitude, double maxLongitude,
+            RoadType roadType,
+            double minLength, double maxLength,
+            double minDifficulty, double maxDifficulty,
+            long afterId, Limit limit
+    );
+
+    default CourseSearchPage search(CourseSearchCondition condition) {
+        return new CourseSearch(this, condition).search();
+    }
+
+    default List<NearCourse> findNearest(Coordinate target, int k) {
+        return new NearestCourseSearch(this, target, k).search();
+    }
+
+    default List<NearCourse> findAllHasDistanceWithin(Coordinate target, Meter meter) {
+        return findAllHasDistanceWithin(target, meter, CourseMetrics.NOOP);
+    }
+
+    default List<NearCourse> findAllHasDistanceWithin(Coordinate target, Meter meter, CourseMetrics metrics) {
+        long startedAt = metrics.enabled() ? System.nanoTime() : 0;
+        List<Long> candidateIds = findAllBoundsIntersecting(BoundingBox.around(target, meter)).stream()
+                .filter(bounds -> bounds.minimumDistanceFrom(target).isWithin(meter))
+                .map(CourseBounds::id)
+                .toList();
+        List<NearCourse> courses = candidateIds.isEmpty() ? List.of() : findAllByIdInOrderByIdAsc(candidateIds).stream()
+                .filter(c -> c.isWithin(meter, target))
+                .map(c -> NearCourse.of(c, target))
                 .toList();
+        if (metrics.enabled()) {
+            metrics.recordDistanceSearch(System.nanoTime() - startedAt, candidateIds.size(), courses.size());
+        }
+        return courses;
     }
 }
@@ -0,0 +1,9 @@
+package demo.demo.domain;
+
+public record CourseSaved(
+        Course course
+) {
+    public Long courseId() {
+        return course.id();
+    }
+}
@@ -0,0 +1,56 @@
+package demo.demo.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+
+final class CourseSearch {
+
+    private final CourseRepository courseRepository;
+    private final CourseSearchCondition condition;
+    private final BoundingBox area;
+
+    CourseSearch(CourseRepository courseRepository, CourseSearchCondition condition) {
+        this.courseRepository = courseRepository;
+        this.condition = condition;
+        this.area = condition.searchArea();
+    }
+
+    CourseSearchPage search() {
+        List<CourseSummary> courses = new ArrayList<>(condition.size());
+        long afterId = condition.afterId();
+        while (true) {
+            int remaining = condition.size() - courses.size();
+            List<Long> ids = findIdsAfter(afterId, remaining + 1);
+            List<Long> pageIds = ids.subList(0, Math.min(ids.size(), remaining));
+            courses.addAll(summariesOf(pageIds));
+            if (ids.size() <= remaining) {
+                return new CourseSearchPage(courses, null);
+            }
+            if (courses.size() == condition.size()) {
+                return new CourseSearchPage(courses, courses.getLast().id());
+            }
+            afterId = pageIds.getLast();
+        }
+    }
+
+    private List<CourseSummary> summariesOf(List<Long> ids) {
+        if (!condition.hasRadius()) {
+            return courseRepository.findSummariesByIdIn(ids);
+        }
+        return courseRepository.findAllByIdInOrderByIdAsc(ids).stream()
+                .filter(course -> course.isWithin(condition.radius(), condition.center()))
+                .map(CourseSummary::from)
+                .toList();
+    }
+
+    private List<Long> findIdsAfter(long afterId, int limit) {
+        return courseRepository.findIdsMatching(
+                area.minLatitude(), area.maxLatitude(), area.minLongitude(), area.maxLongitude(),
+                condition.roadType(),
+                condition.minLength().value(), condition.maxLength().value(),
+                condition.minDifficulty(), condition.maxDifficulty(),
+                afterId, Limit.of(limit)
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package demo.demo.domain;
+
+public record CourseSearchCondition(
+        Coordinate center,
+        Meter radius,
+        RoadType roadType,
+        Meter minLength,
+        Meter maxLength,
+        double minDifficulty,
+        double maxDifficulty,
+        Long cursor,
+        int size
+) {
+    public static final int MAX_SIZE = 100;
+
+    public CourseSearchCondition {
+        if ((center == null) != (radius == null) || (radius != null && radius.value() < 0)) {
+            throw new IllegalArgumentException("");
+        }
+        if (minLength.value() > maxLength.value() || minDifficulty > maxDifficulty) {
+            throw new IllegalArgumentException("");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("");
+        }
+    }
+
+    public boolean hasRadius() {
+        return radius != null;
+    }
+
+    BoundingBox searchArea() {
+        return hasRadius() ? BoundingBox.around(center, radius).withFloorMargin() : BoundingBox.world();
+    }
+
+    long afterId() {
+        return cursor == null ? 0 : cursor;
+    }
+}
@@ -0,0 +1,12 @@
+package demo.demo.domain;
+
+import java.util.List;
+
+public record CourseSearchPage(
+        List<CourseSummary> courses,
+        Long nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,17 @@
+package demo.demo.domain;
+
+public record CourseSummary(
+        Long id,
+        String name,
+        RoadType roadType,
+        Meter length,
+        double difficulty
+) {
+    public CourseSummary(Long id, String name, RoadType roadType, double length, double difficulty) {
+        this(id, name, roadType, new Meter(length), difficulty);
+    }
+
+    public static CourseSummary from(Course course) {
+        return new CourseSummary(course.id(), course.name(), course.roadType(), course.length(), course.difficulty());
+    }
+}
@@ -0,0 +1,123 @@
+package demo.demo.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Lob;
+import java.util.Arrays;
+
+@Embeddable
+public record ElevationProfile(
+        @Column(nullable = false)
+        double ascent,
+
+        @Column(nullable = false)
+        double descent,
+
+        @Column(nullable = false)
+        double maxGrade,
+
+        @Column(nullable = false)
+        double sampleSpacing,
+
+        @Lob
+        @Convert(converter = ElevationSamplesConverter.class)
+        @Column(nullable = false)
+        double[] samples
+) {
+    static final int MAX_SAMPLES = 128;
+    static final double SMOOTHING_METERS = 30;
+    static final double HYSTERESIS_METERS = 1;
+    static final double GRADE_WINDOW_METERS = 50;
+
+    public static ElevationProfile of(Coordinates coordinates, double[] cumulativeDistances) {
+        int size = coordinates.size();
+        double length = cumulativeDistances[size - 1];
+        int sampleCount = length > 0 ? Math.min(MAX_SAMPLES, Math.max(2, size)) : 1;
+        double sampleSpacing = sampleCount > 1 ? length / (sampleCount - 1) : 0;
+        double[] samples = new double[sampleCount];
+
+        double smoothed = coordinates.elevation(0);
+        double reference = smoothed;
+        double ascent = 0;
+        double descent = 0;
+        double maxGrade = 0;
+        double gradeAnchorDistance = 0;
+        double gradeAnchorElevation = smoothed;
+        double previousDistance = 0;
+        double previousSmoothed = smoothed;
+        samples[0] = smoothed;
+        int nextSample = 1;
+
+        for (int i = 1; i < size; i++) {
+            double distance = cumulativeDistances[i];
+            double step = distance - previousDistance;
+            smoothed += (coordinates.elevation(i) - smoothed) * (1 - Math.exp(-step / SMOOTHING_METERS));
+
+            double change = smoothed - reference;
+            if (change >= HYSTERESIS_METERS) {
+                ascent += change;
+                reference = smoothed;
+            } else if (change <= -HYSTERESIS_METERS) {
+                descent -= change;
+                reference = smoothed;
+            }
+
+            if (distance - gradeAnchorDistance >= GRADE_WINDOW_METERS) {
+                maxGrade = Math.max(maxGrade, Math.abs(smoothed - gradeAnchorElevation) / (distance - gradeAnchorDistance));
+                gradeAnchorDistance = distance;
+                gradeAnchorElevation = smoothed;
+            }
+
+            while (nextSample < sampleCount && nextSample * sampleSpacing <= distance) {
+                double ratio = step > 0 ? (nextSample * sampleSpacing - previousDistance) / step : 1;
+                samples[nextSample++] = previousSmoothed + (smoothed - previousSmoothed) * ratio;
+            }
+            previousDistance = distance;
+            previousSmoothed = smoothed;
+        }
+        while (nextSample < sampleCount) {
+            samples[nextSample++] = smoothed;
+        }
+        return new ElevationProfile(ascent, descent, maxGrade, sampleSpacing, samples);
+    }
+
+    public double distanceAt(int sample) {
+        return sample * sampleSpacing;
+    }
+
+    @Override
+    public double[] samples() {
+        return samples.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ElevationProfile that)) {
+            return false;
+        }
+        return Double.compare(ascent, that.ascent) == 0
+                && Double.compare(descent, that.descent) == 0
+                && Double.compare(maxGrade, that.maxGrade) == 0
+                && Double.compare(sampleSpacing, that.sampleSpacing) == 0
+                && Arrays.equals(samples, that.samples);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(ascent);
+        result = 31 * result + Double.hashCode(descent);
+        result = 31 * result + Double.hashCode(maxGrade);
+        result = 31 * result + Double.hashCode(sampleSpacing);
+        return 31 * result + Arrays.hashCode(samples);
+    }
+
+    @Override
+    public String toString() {
+        return "ElevationProfile[ascent=" + ascent + ", descent=" + descent + ", maxGrade=" + maxGrade
+                + ", sampleSpacing=" + sampleSpacing + ", samples=" + samples.length + "]";
+    }
+}
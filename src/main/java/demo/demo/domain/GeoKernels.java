@@ -0,0 +1,40 @@
+package demo.demo.domain;
+
+interface GeoKernels {
+
+    String ENABLED_PROPERTY = "course.simd.enabled";
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    GeoKernels INSTANCE = select();
+
+    void segmentLengths(double[] latitudes, double[] longitudes, double[] lengths);
+
+    static GeoKernels scalar() {
+        return ScalarGeoKernels.INSTANCE;
+    }
+
+    static boolean vectorSupported() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    static GeoKernels vector() {
+        try {
+            return (GeoKernels) Class.forName("demo.demo.domain.VectorGeoKernels")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("", e);
+        }
+    }
+
+    private static GeoKernels select() {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")) || !vectorSupported()) {
+            return scalar();
+        }
+        try {
+            return vector();
+        } catch (IllegalStateException e) {
+            return scalar();
+        }
+    }
+}
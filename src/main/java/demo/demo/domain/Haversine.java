@@ -0,0 +1,30 @@
+package demo.demo.domain;
+
+public final class Haversine {
+
+    public static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    private Haversine() {
+    }
+
+    public static double distance(double startLatitude, double startLongitude, double endLatitude, double endLongitude) {
+        if (startLatitude == endLatitude && startLongitude == endLongitude) {
+            return 0.0;
+        }
+        double startLatitudeRadian = Math.toRadians(startLatitude);
+        double endLatitudeRadian = Math.toRadians(endLatitude);
+        double halfSinLongitude = Math.sin((Math.toRadians(startLongitude) - Math.toRadians(endLongitude)) * 0.5);
+        double halfSinLatitude = Math.sin((startLatitudeRadian - endLatitudeRadian) * 0.5);
+
+        double h = halfSinLatitude * halfSinLatitude
+                + Math.cos(startLatitudeRadian) * Math.cos(endLatitudeRadian) * halfSinLongitude * halfSinLongitude;
+        if (h > 1) {
+            h = 1;
+        }
+        return 2 * Math.atan2(Math.sqrt(h), Math.sqrt(1 - h)) * EARTH_RADIUS_METERS;
+    }
+
+    public static double distance(Coordinate start, Coordinate end) {
+        return distance(start.latitude(), start.longitude(), end.latitude(), end.longitude());
+    }
+}
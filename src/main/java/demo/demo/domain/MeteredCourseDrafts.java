@@ -0,0 +1,87 @@
+package demo.demo.domain;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class MeteredCourseDrafts implements Iterator<CourseDraft> {
+
+    private final Iterator<CourseDraft> drafts;
+    private long elapsedNanos;
+    private long pointCount;
+
+    private MeteredCourseDrafts(Iterator<CourseDraft> drafts) {
+        this.drafts = drafts;
+    }
+
+    static Stream<CourseDraft> read(CourseParser parser, InputStream fileStream, CourseMetrics metrics) {
+        CountingInputStream countingStream = new CountingInputStream(fileStream);
+        long startedAt = System.nanoTime();
+        Stream<CourseDraft> drafts = parser.readDrafts(countingStream);
+        MeteredCourseDrafts iterator = new MeteredCourseDrafts(drafts.iterator());
+        iterator.elapsedNanos = System.nanoTime() - startedAt;
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(() -> {
+            drafts.close();
+            metrics.recordParse(iterator.elapsedNanos, iterator.pointCount, countingStream.byteCount);
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        long startedAt = System.nanoTime();
+        boolean hasNext = drafts.hasNext();
+        elapsedNanos += System.nanoTime() - startedAt;
+        return hasNext;
+    }
+
+    @Override
+    public CourseDraft next() {
+        long startedAt = System.nanoTime();
+        CourseDraft draft = drafts.next();
+        elapsedNanos += System.nanoTime() - startedAt;
+        pointCount += draft.coordinates().size();
+        return draft;
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long byteCount;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                byteCount++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                byteCount += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            byteCount += skipped;
+            return skipped;
+        }
+    }
+}
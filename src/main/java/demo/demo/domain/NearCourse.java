@@ -0,0 +1,10 @@
+package demo.demo.domain;
+
+public record NearCourse(
+        CourseSummary course,
+        Meter distance
+) {
+    public static NearCourse of(Course course, Coordinate target) {
+        return new NearCourse(CourseSummary.from(course), course.distanceFrom(target));
+    }
+}
@@ -0,0 +1,144 @@
+package demo.demo.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+final class NearestCourseSearch {
+
+    private static final double INITIAL_RADIUS_METER = 1000;
+    private static final double MAX_RADIUS_METER = Math.PI * Haversine.EARTH_RADIUS_METERS;
+
+    private static final Comparator<Candidate> CLOSEST_FIRST = Comparator.comparingDouble(Candidate::distance)
+            .thenComparing(Candidate::id);
+
+    private final Source source;
+    private final Coordinate target;
+    private final int k;
+    private final PriorityQueue<Candidate> nearest;
+    private final Set<Long> visited = new HashSet<>();
+
+    NearestCourseSearch(Source source, Coordinate target, int k) {
+        validate(k);
+        this.source = source;
+        this.target = target;
+        this.k = k;
+        this.nearest = new PriorityQueue<>(CLOSEST_FIRST.reversed());
+    }
+
+    NearestCourseSearch(CourseRepository courseRepository, Coordinate target, int k) {
+        this(repositorySource(courseRepository), target, k);
+    }
+
+    NearestCourseSearch(CourseGeometryStore courseGeometryStore, Coordinate target, int k) {
+        this(storeSource(courseGeometryStore), target, k);
+    }
+
+    private static void validate(int k) {
+        if (k < 1 || k > CourseSearchCondition.MAX_SIZE) {
+            throw new IllegalArgumentException("");
+        }
+    }
+
+    private static Source repositorySource(CourseRepository courseRepository) {
+        return new Source() {
+            @Override
+            public List<CourseBounds> findAllBoundsIntersecting(BoundingBox area) {
+                return courseRepository.findAllBoundsIntersecting(area);
+            }
+
+            @Override
+            public List<NearCourse> measure(Collection<Long> ids, Coordinate target) {
+                return courseRepository.findAllByIdInOrderByIdAsc(ids).stream()
+                        .map(course -> NearCourse.of(course, target))
+                        .toList();
+            }
+        };
+    }
+
+    private static Source storeSource(CourseGeometryStore courseGeometryStore) {
+        return new Source() {
+            @Override
+            public List<CourseBounds> findAllBoundsIntersecting(BoundingBox area) {
+                return courseGeometryStore.findAllIntersecting(area).stream()
+                        .map(geometry -> new CourseBounds(geometry.id(), geometry.boundingBox()))
+                        .toList();
+            }
+
+            @Override
+            public List<NearCourse> measure(Collection<Long> ids, Coordinate target) {
+                return ids.stream()
+                        .flatMap(id -> courseGeometryStore.findById(id).stream())
+                        .map(geometry -> new NearCourse(geometry.summary(), geometry.distanceFrom(target)))
+                        .toList();
+            }
+        };
+    }
+
+    List<NearCourse> search() {
+        double radius = INITIAL_RADIUS_METER;
+        while (true) {
+            searchWithin(radius);
+            if ((nearest.size() == k && nearest.peek().distance() <= radius) || radius >= MAX_RADIUS_METER) {
+                break;
+            }
+            radius = Math.min(radius * 2, MAX_RADIUS_METER);
+        }
+
+        List<Candidate> sorted = new ArrayList<>(nearest);
+        sorted.sort(CLOSEST_FIRST);
+        return sorted.stream().map(Candidate::near).toList();
+    }
+
+    private void searchWithin(double radius) {
+        BoundingBox area = BoundingBox.around(target, new Meter(radius));
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(CLOSEST_FIRST);
+        for (CourseBounds bounds : source.findAllBoundsIntersecting(area)) {
+            if (visited.add(bounds.id())) {
+                frontier.add(new Candidate(bounds.id(), bounds.minimumDistanceFrom(target).value(), null));
+            }
+        }
+
+        while (!frontier.isEmpty()) {
+            List<Long> batch = new ArrayList<>(k);
+            while (!frontier.isEmpty() && batch.size() < k && !isPruned(frontier.peek())) {
+                batch.add(frontier.poll().id());
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            for (NearCourse near : source.measure(batch, target)) {
+                offer(new Candidate(near.course().id(), near.distance().value(), near));
+            }
+        }
+    }
+
+    private boolean isPruned(Candidate candidate) {
+        return nearest.size() == k && candidate.distance() >= nearest.peek().distance();
+    }
+
+    private void offer(Candidate candidate) {
+        if (nearest.size() < k) {
+            nearest.add(candidate);
+            return;
+        }
+        if (CLOSEST_FIRST.compare(candidate, nearest.peek()) < 0) {
+            nearest.poll();
+            nearest.add(candidate);
+        }
+    }
+
+    interface Source {
+
+        List<CourseBounds> findAllBoundsIntersecting(BoundingBox area);
+
+        List<NearCourse> measure(Collection<Long> ids, Coordinate target);
+    }
+
+    private record Candidate(Long id, double distance, NearCourse near) {
+    }
+}
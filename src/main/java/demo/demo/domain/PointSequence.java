@@ -0,0 +1,12 @@
+package demo.demo.domain;
+
+interface PointSequence {
+
+    int size();
+
+    double latitude(int index);
+
+    double longitude(int index);
+
+    Coordinate get(int index);
+}
@@ -0,0 +1,81 @@
+package demo.demo.domain;
+
+import java.util.Arrays;
+
+public final class PolylineSimplifier {
+
+    private PolylineSimplifier() {
+    }
+
+    public static Coordinates simplify(Coordinates coordinates, double toleranceMeter) {
+        int size = coordinates.size();
+        if (size <= 2) {
+            return coordinates;
+        }
+
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        project(coordinates, xs, ys);
+
+        boolean[] kept = new boolean[size];
+        kept[0] = true;
+        kept[size - 1] = true;
+        int keptCount = 2;
+
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = size - 1;
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+
+            int farthest = -1;
+            double farthestDistance = toleranceMeter;
+            for (int i = start + 1; i < end; i++) {
+                double distance = distanceToSegment(xs[i], ys[i], xs[start], ys[start], xs[end], ys[end]);
+                if (distance > farthestDistance) {
+                    farthestDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest < 0) {
+                continue;
+            }
+
+            kept[farthest] = true;
+            keptCount++;
+            if (top + 4 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top++] = start;
+            stack[top++] = farthest;
+            stack[top++] = farthest;
+            stack[top++] = end;
+        }
+
+        return coordinates.select(kept, keptCount);
+    }
+
+    private static void project(Coordinates coordinates, double[] xs, double[] ys) {
+        double metersPerDegree = Haversine.EARTH_RADIUS_METERS * Math.PI / 180;
+        BoundingBox boundingBox = BoundingBox.of(coordinates);
+        double referenceLatitude = (boundingBox.minLatitude() + boundingBox.maxLatitude()) / 2;
+        double longitudeScale = metersPerDegree * Math.cos(Math.toRadians(referenceLatitude));
+        for (int i = 0; i < coordinates.size(); i++) {
+            xs[i] = coordinates.longitude(i) * longitudeScale;
+            ys[i] = coordinates.latitude(i) * metersPerDegree;
+        }
+    }
+
+    private static double distanceToSegment(double x, double y, double startX, double startY, double endX, double endY) {
+        double segmentX = endX - startX;
+        double segmentY = endY - startY;
+        double lengthSquared = segmentX * segmentX + segmentY * segmentY;
+        if (lengthSquared == 0) {
+            return Math.hypot(x - startX, y - startY);
+        }
+        double ratio = Math.clamp(((x - startX) * segmentX + (y - startY) * segmentY) / lengthSquared, 0.0, 1.0);
+        return Math.hypot(x - (startX + ratio * segmentX), y - (startY + ratio * segmentY));
+    }
+}
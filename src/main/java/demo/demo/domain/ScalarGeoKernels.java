@@ -0,0 +1,16 @@
+package demo.demo.domain;
+
+final class ScalarGeoKernels implements GeoKernels {
+
+    static final ScalarGeoKernels INSTANCE = new ScalarGeoKernels();
+
+    private ScalarGeoKernels() {
+    }
+
+    @Override
+    public void segmentLengths(double[] latitudes, double[] longitudes, double[] lengths) {
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = Haversine.distance(latitudes[i], longitudes[i], latitudes[i + 1], longitudes[i + 1]);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package demo.demo.domain;
+
+final class SegmentIndex {
+
+    static final int NO_SEGMENT = -1;
+
+    private static final int LEAF_SIZE = 8;
+    private static final int MAX_DEPTH = 64;
+
+    private final PointSequence coordinates;
+    private final double[] minLatitudes;
+    private final double[] maxLatitudes;
+    private final double[] minLongitudes;
+    private final double[] maxLongitudes;
+    private final int[] rightChildren;
+    private final int[] firstSegments;
+    private final int[] lastSegments;
+    private int nodeCount;
+
+    SegmentIndex(PointSequence coordinates) {
+        this.coordinates = coordinates;
+        int segmentCount = coordinates.size() - 1;
+        int leafCount = Math.max(1, (segmentCount + LEAF_SIZE - 1) / LEAF_SIZE);
+        int capacity = leafCount * 2 - 1;
+        this.minLatitudes = new double[capacity];
+        this.maxLatitudes = new double[capacity];
+        this.minLongitudes = new double[capacity];
+        this.maxLongitudes = new double[capacity];
+        this.rightChildren = new int[capacity];
+        this.firstSegments = new int[capacity];
+        this.lastSegments = new int[capacity];
+        build(0, leafCount, segmentCount);
+    }
+
+    int nearestSegment(double latitude, double longitude) {
+        return nearestSegment(latitude, longitude, NO_SEGMENT, Double.MAX_VALUE);
+    }
+
+    int nearestSegment(double latitude, double longitude, int candidateSegment, double candidateDistance) {
+        Equirectangular approximation = Equirectangular.from(latitude, longitude);
+        int bestSegment = candidateSegment;
+        double bestDistance = candidateDistance;
+
+        int[] nodes = new int[MAX_DEPTH];
+        double[] bounds = new double[MAX_DEPTH];
+        int top = 0;
+        nodes[top] = 0;
+        bounds[top++] = lowerBound(0, latitude, longitude);
+
+        while (top > 0) {
+            int node = nodes[--top];
+            if (bounds[top] > bestDistance) {
+                continue;
+            }
+            int rightChild = rightChildren[node];
+            if (rightChild == NO_SEGMENT) {
+                for (int segment = firstSegments[node]; segment <= lastSegments[node]; segment++) {
+                    if (approximation != null && cannotBeCloser(segment, latitude, longitude, approximation, bestDistance)) {
+                        continue;
+                    }
+                    double distance = distanceToSegment(coordinates, segment, latitude, longitude);
+                    if (distance < bestDistance || (distance == bestDistance && segment > bestSegment)) {
+                        bestDistance = distance;
+                        bestSegment = segment;
+                    }
+                }
+                continue;
+            }
+
+            int leftChild = node + 1;
+            double leftBound = lowerBound(leftChild, latitude, longitude);
+            double rightBound = lowerBound(rightChild, latitude, longitude);
+            if (leftBound < rightBound) {
+                top = push(nodes, bounds, top, rightChild, rightBound, bestDistance);
+                top = push(nodes, bounds, top, leftChild, leftBound, bestDistance);
+            } else {
+                top = push(nodes, bounds, top, leftChild, leftBound, bestDistance);
+                top = push(nodes, bounds, top, rightChild, rightBound, bestDistance);
+            }
+        }
+        return bestSegment;
+    }
+
+    boolean anySegmentWithin(double latitude, double longitude, double radius) {
+        Equirectangular approximation = radius <= Equirectangular.MAX_RADIUS_METERS
+                ? Equirectangular.from(latitude, longitude)
+                : null;
+        int[] nodes = new int[MAX_DEPTH];
+        int top = 0;
+        nodes[top++] = 0;
+
+        while (top > 0) {
+            int node = nodes[--top];
+            if (lowerBound(node, latitude, longitude) > radius) {
+                continue;
+            }
+            int rightChild = rightChildren[node];
+            if (rightChild != NO_SEGMENT) {
+                nodes[top++] = rightChild;
+                nodes[top++] = node + 1;
+                continue;
+            }
+            for (int segment = firstSegments[node]; segment <= lastSegments[node]; segment++) {
+                if (approximation != null) {
+                    double approximate = distanceToSegment(coordinates, segment, latitude, longitude, approximation);
+                    if (!Equirectangular.isReliable(approximate) || Equirectangular.lowerBound(approximate) > radius) {
+                        continue;
+                    }
+                    if (Equirectangular.upperBound(approximate) <= radius) {
+                        return true;
+                    }
+                }
+                if (distanceToSegment(coordinates, segment, latitude, longitude) <= radius) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean cannotBeCloser(
+            int segment, double latitude, double longitude, Equirectangular approximation, double bestDistance
+    ) {
+        double approximate = distanceToSegment(coordinates, segment, latitude, longitude, approximation);
+        return Equirectangular.isReliable(approximate) && Equirectangular.lowerBound(approximate) > bestDistance;
+    }
+
+    static double distanceToSegment(PointSequence coordinates, int segment, double latitude, double longitude) {
+        return distanceToSegment(coordinates, segment, latitude, longitude, null);
+    }
+
+    private static double distanceToSegment(
+            PointSequence coordinates, int segment, double latitude, double longitude, Equirectangular approximation
+    ) {
+        return distanceToSegment(
+                coordinates.latitude(segment), coordinates.longitude(segment),
+                coordinates.latitude(segment + 1), coordinates.longitude(segment + 1),
+                latitude, longitude, approximation
+        );
+    }
+
+    static double distanceToSegment(
+            double startLatitude, double startLongitude, double endLatitude, double endLongitude,
+            double latitude, double longitude
+    ) {
+        return distanceToSegment(startLatitude, startLongitude, endLatitude, endLongitude, latitude, longitude, null);
+    }
+
+    private static double distanceToSegment(
+            double startLatitude, double startLongitude, double endLatitude, double endLongitude,
+            double latitude, double longitude, Equirectangular approximation
+    ) {
+        double closestLatitude;
+        double closestLongitude;
+        double startToTargetLatitudeDiff = startLatitude - latitude;
+        double startToTargetLongitudeDiff = startLongitude - longitude;
+        double startToEndLatitudeDiff = startLatitude - endLatitude;
+        double startToEndLongitudeDiff = startLongitude - endLongitude;
+        double projectionRatio = (startToTargetLatitudeDiff * startToEndLatitudeDiff + startToTargetLongitudeDiff * startToEndLongitudeDiff)
+                / (startToEndLatitudeDiff * startToEndLatitudeDiff + startToEndLongitudeDiff * startToEndLongitudeDiff);
+
+        if (projectionRatio < 0) {
+            closestLatitude = startLatitude;
+            closestLongitude = startLongitude;
+        } else if (projectionRatio > 1) {
+            closestLatitude = endLatitude;
+            closestLongitude = endLongitude;
+        } else if (projectionRatio >= 0) {
+            closestLatitude = Coordinate.floorToMicroDegree(startLatitude + (endLatitude - startLatitude) * projectionRatio);
+            closestLongitude = Coordinate.floorToMicroDegree(startLongitude + (endLongitude - startLongitude) * projectionRatio);
+        } else {
+            return Double.NaN;
+        }
+        if (approximation != null) {
+            return approximation.distanceTo(closestLatitude, closestLongitude);
+        }
+        return Haversine.distance(latitude, longitude, closestLatitude, closestLongitude);
+    }
+
+    private static int push(int[] nodes, double[] bounds, int top, int node, double bound, double bestDistance) {
+        if (bound > bestDistance) {
+            return top;
+        }
+        nodes[top] = node;
+        bounds[top] = bound;
+        return top + 1;
+    }
+
+    private double lowerBound(int node, double latitude, double longitude) {
+        return BoundingBox.minimumDistance(
+                minLatitudes[node], maxLatitudes[node], minLongitudes[node], maxLongitudes[node],
+                latitude, longitude
+        );
+    }
+
+    private int build(int fromLeaf, int toLeaf, int segmentCount) {
+        int node = nodeCount++;
+        if (toLeaf - fromLeaf == 1) {
+            int firstSegment = fromLeaf * LEAF_SIZE;
+            int lastSegment = Math.min(firstSegment + LEAF_SIZE, segmentCount) - 1;
+            rightChildren[node] = NO_SEGMENT;
+            firstSegments[node] = firstSegment;
+            lastSegments[node] = lastSegment;
+            fitLeaf(node, firstSegment, lastSegment + 1);
+            return node;
+        }
+
+        int middleLeaf = (fromLeaf + toLeaf) >>> 1;
+        int leftChild = build(fromLeaf, middleLeaf, segmentCount);
+        int rightChild = build(middleLeaf, toLeaf, segmentCount);
+        rightChildren[node] = rightChild;
+        minLatitudes[node] = Math.min(minLatitudes[leftChild], minLatitudes[rightChild]);
+        maxLatitudes[node] = Math.max(maxLatitudes[leftChild], maxLatitudes[rightChild]);
+        minLongitudes[node] = Math.min(minLongitudes[leftChild], minLongitudes[rightChild]);
+        maxLongitudes[node] = Math.max(maxLongitudes[leftChild], maxLongitudes[rightChild]);
+        return node;
+    }
+
+    private void fitLeaf(int node, int firstCoordinate, int lastCoordinate) {
+        double minLatitude = Double.MAX_VALUE;
+        double maxLatitude = -Double.MAX_VALUE;
+        double minLongitude = Double.MAX_VALUE;
+        double maxLongitude = -Double.MAX_VALUE;
+        for (int i = firstCoordinate; i <= lastCoordinate; i++) {
+            minLatitude = Math.min(minLatitude, coordinates.latitude(i));
+            maxLatitude = Math.max(maxLatitude, coordinates.latitude(i));
+            minLongitude = Math.min(minLongitude, coordinates.longitude(i));
+            maxLongitude = Math.max(maxLongitude, coordinates.longitude(i));
+        }
+        minLatitudes[node] = minLatitude - Coordinate.FLOOR_MARGIN_DEGREE;
+        maxLatitudes[node] = maxLatitude;
+        minLongitudes[node] = minLongitude - Coordinate.FLOOR_MARGIN_DEGREE;
+        maxLongitudes[node] = maxLongitude;
+    }
+}
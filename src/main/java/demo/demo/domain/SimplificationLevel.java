@@ -0,0 +1,33 @@
+package demo.demo.domain;
+
+import java.util.Optional;
+
+public enum SimplificationLevel {
+    상세(1),
+    보통(10),
+    개략(50),
+    ;
+
+    private static final double METERS_PER_PIXEL_AT_ZOOM_ZERO = 156543.03392;
+
+    private final double toleranceMeter;
+
+    SimplificationLevel(double toleranceMeter) {
+        this.toleranceMeter = toleranceMeter;
+    }
+
+    public static Optional<SimplificationLevel> forZoom(int zoom, double latitude) {
+        double metersPerPixel = METERS_PER_PIXEL_AT_ZOOM_ZERO * Math.cos(Math.toRadians(latitude)) / Math.pow(2, zoom);
+        SimplificationLevel matched = null;
+        for (SimplificationLevel level : values()) {
+            if (level.toleranceMeter <= metersPerPixel) {
+                matched = level;
+            }
+        }
+        return Optional.ofNullable(matched);
+    }
+
+    public double toleranceMeter() {
+        return toleranceMeter;
+    }
+}
@@ -0,0 +1,8 @@
+package demo.demo.domain;
+
+public record SnappedCoordinate(
+        Coordinate coordinate,
+        int segment,
+        Meter distance
+) {
+}
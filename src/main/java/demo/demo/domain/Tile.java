@@ -0,0 +1,68 @@
+package demo.demo.domain;
+
+public record Tile(
+        int zoom,
+        int x,
+        int y
+) {
+    public static final int MAX_ZOOM = 22;
+
+    private static final double METERS_PER_PIXEL_AT_ZOOM_ZERO = 156543.03392;
+    private static final double BUFFER_RATIO = 1.0 / 16;
+
+    public Tile {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("");
+        }
+        int tileCount = 1 << zoom;
+        if (x < 0 || x >= tileCount || y < 0 || y >= tileCount) {
+            throw new IllegalArgumentException("");
+        }
+    }
+
+    public static Tile containing(Coordinate coordinate, int zoom) {
+        int tileCount = 1 << zoom;
+        double latitude = Math.toRadians(coordinate.latitude());
+        double mercatorY = (1 - Math.log(Math.tan(latitude) + 1 / Math.cos(latitude)) / Math.PI) / 2;
+        int x = (int) Math.floor((coordinate.longitude() + 180) / 360 * tileCount);
+        int y = (int) Math.floor(mercatorY * tileCount);
+        return new Tile(zoom, Math.clamp(x, 0, tileCount - 1), Math.clamp(y, 0, tileCount - 1));
+    }
+
+    public BoundingBox boundingBox() {
+        return boundingBoxOf(0);
+    }
+
+    public BoundingBox bufferedBoundingBox() {
+        return boundingBoxOf(BUFFER_RATIO);
+    }
+
+    public double metersPerPixel() {
+        BoundingBox boundingBox = boundingBox();
+        double centerLatitude = (boundingBox.minLatitude() + boundingBox.maxLatitude()) / 2;
+        return METERS_PER_PIXEL_AT_ZOOM_ZERO * Math.cos(Math.toRadians(centerLatitude)) / (1 << zoom);
+    }
+
+    public boolean isSubPixel(BoundingBox boundingBox) {
+        double extent = Haversine.distance(
+                boundingBox.minLatitude(), boundingBox.minLongitude(),
+                boundingBox.maxLatitude(), boundingBox.maxLongitude()
+        );
+        return extent < metersPerPixel();
+    }
+
+    private BoundingBox boundingBoxOf(double buffer) {
+        double tileCount = 1 << zoom;
+        return new BoundingBox(
+                latitudeOf((y + 1 + buffer) / tileCount),
+                latitudeOf((y - buffer) / tileCount),
+                Math.max(-180, (x - buffer) / tileCount * 360 - 180),
+                Math.min(180, (x + 1 + buffer) / tileCount * 360 - 180)
+        );
+    }
+
+    private static double latitudeOf(double mercatorY) {
+        double clamped = Math.clamp(mercatorY, 0, 1);
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * clamped))));
+    }
+}
@@ -0,0 +1,70 @@
+package demo.demo.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class TileClipper {
+
+    private TileClipper() {
+    }
+
+    static List<List<Coordinate>> clipAndSimplify(PointSequence coordinates, BoundingBox bounds, Tile tile) {
+        BoundingBox area = tile.bufferedBoundingBox();
+        if (!bounds.intersects(area)) {
+            return List.of();
+        }
+        double toleranceMeter = tile.metersPerPixel();
+        return clip(coordinates, area).stream()
+                .map(part -> PolylineSimplifier.simplify(part, toleranceMeter).asList())
+                .toList();
+    }
+
+    static List<Coordinates> clip(PointSequence coordinates, BoundingBox area) {
+        List<Coordinates> parts = new ArrayList<>();
+        Coordinates.Builder part = null;
+        for (int i = 0; i + 1 < coordinates.size(); i++) {
+            if (!intersects(coordinates, i, area)) {
+                part = flush(part, parts);
+                continue;
+            }
+            if (part == null) {
+                part = Coordinates.builder().add(coordinates.get(i));
+            }
+            part.add(coordinates.get(i + 1));
+        }
+        flush(part, parts);
+        return parts;
+    }
+
+    private static Coordinates.Builder flush(Coordinates.Builder part, List<Coordinates> parts) {
+        if (part != null) {
+            parts.add(part.build());
+        }
+        return null;
+    }
+
+    private static boolean intersects(PointSequence coordinates, int segment, BoundingBox area) {
+        double startX = coordinates.longitude(segment);
+        double startY = coordinates.latitude(segment);
+        double deltaX = coordinates.longitude(segment + 1) - startX;
+        double deltaY = coordinates.latitude(segment + 1) - startY;
+        double[] range = {0, 1};
+        return clipRange(-deltaX, startX - area.minLongitude(), range)
+                && clipRange(deltaX, area.maxLongitude() - startX, range)
+                && clipRange(-deltaY, startY - area.minLatitude(), range)
+                && clipRange(deltaY, area.maxLatitude() - startY, range);
+    }
+
+    private static boolean clipRange(double direction, double distance, double[] range) {
+        if (direction == 0) {
+            return distance >= 0;
+        }
+        double ratio = distance / direction;
+        if (direction < 0) {
+            range[0] = Math.max(range[0], ratio);
+        } else {
+            range[1] = Math.min(range[1], ratio);
+        }
+        return range[0] <= range[1];
+    }
+}
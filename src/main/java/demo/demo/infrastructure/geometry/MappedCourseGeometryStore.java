@@ -0,0 +1,369 @@
+package demo.demo.infrastructure.geometry;
+
+import demo.demo.domain.BoundingBox;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometry;
+import demo.demo.domain.CourseGeometryStore;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "course.geometry.store-path")
+public class MappedCourseGeometryStore implements CourseGeometryStore, AutoCloseable {
+
+    private static final int MAGIC = 0x43474d53;
+    private static final int VERSION = 2;
+    private static final int FILE_HEADER_BYTES = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CHUNK_BYTES_OFFSET = 8;
+    private static final int WRITE_POSITION_OFFSET = 16;
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 28;
+    private static final int ALIGNMENT = Long.BYTES;
+    private static final double CELL_DEGREES = 0.1;
+    private static final long LONGITUDE_CELLS = Math.round(360 / CELL_DEGREES) + 1;
+    private static final int MAX_CELLS_PER_COURSE = 64;
+
+    private final Path path;
+    private final int chunkBytes;
+    private FileChannel channel;
+    private List<MappedByteBuffer> chunks = new ArrayList<>();
+    private final Map<Long, CourseGeometry> geometries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Set<Long> oversized = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long writePosition;
+    private long liveBytes;
+    private long supersededBytes;
+
+    @Autowired
+    public MappedCourseGeometryStore(@Value("${course.geometry.store-path}") Path path) {
+        this(path, DEFAULT_CHUNK_BYTES);
+    }
+
+    MappedCourseGeometryStore(Path path, int chunkBytes) {
+        this.path = path;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() == 0 || !hasCurrentVersion()) {
+                channel.truncate(0);
+                this.chunkBytes = chunkBytes;
+                writePosition = initialize(chunk(0));
+            } else {
+                this.chunkBytes = readChunkBytes();
+                remap();
+                compactIfMostlySuperseded();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Course> courses) {
+        courses.forEach(this::validate);
+        writeLock.lock();
+        long startPosition = writePosition;
+        try {
+            List<CourseGeometry> written = new ArrayList<>(courses.size());
+            try {
+                for (Course course : courses) {
+                    written.add(append(course));
+                }
+            } catch (RuntimeException e) {
+                writePosition = startPosition;
+                throw e;
+            }
+            chunks.forEach(MappedByteBuffer::force);
+            chunk(0).putLong(WRITE_POSITION_OFFSET, writePosition);
+            chunk(0).force();
+            written.forEach(this::index);
+            compactIfMostlySuperseded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<Long> courseIds) {
+        writeLock.lock();
+        try {
+            courseIds.forEach(this::unindex);
+            compact();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<CourseGeometry> findById(Long courseId) {
+        return Optional.ofNullable(geometries.get(courseId));
+    }
+
+    @Override
+    public Collection<CourseGeometry> findAll() {
+        return Collections.unmodifiableCollection(geometries.values());
+    }
+
+    @Override
+    public List<CourseGeometry> findAllIntersecting(BoundingBox boundingBox) {
+        BoundingBox area = boundingBox.withFloorMargin();
+        int minLatitudeCell = latitudeCellOf(area.minLatitude());
+        int maxLatitudeCell = latitudeCellOf(area.maxLatitude());
+        int minLongitudeCell = longitudeCellOf(area.minLongitude());
+        int maxLongitudeCell = longitudeCellOf(area.maxLongitude());
+        long cellCount = (long) (maxLatitudeCell - minLatitudeCell + 1) * (maxLongitudeCell - minLongitudeCell + 1);
+        if (cellCount > geometries.size()) {
+            return geometries.values().stream()
+                    .filter(geometry -> area.intersects(geometry.boundingBox()))
+                    .toList();
+        }
+
+        Set<Long> candidateIds = new HashSet<>(oversized);
+        for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+                candidateIds.addAll(cells.getOrDefault(cellKey(latitudeCell, longitudeCell), Set.of()));
+            }
+        }
+        return candidateIds.stream()
+                .map(geometries::get)
+                .filter(Objects::nonNull)
+                .filter(geometry -> area.intersects(geometry.boundingBox()))
+                .toList();
+    }
+
+    @Override
+    public int size() {
+        return geometries.size();
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        writeLock.lock();
+        try {
+            chunks.forEach(MappedByteBuffer::force);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void validate(Course course) {
+        if (course.id() == null || recordBytesOf(course) > chunkBytes - FILE_HEADER_BYTES) {
+            throw new IllegalArgumentException("");
+        }
+    }
+
+    private CourseGeometry append(Course course) {
+        int recordBytes = recordBytesOf(course);
+        writePosition = placeRecord(writePosition, recordBytes);
+        CourseGeometry geometry = CourseGeometry.write(chunk(chunkOf(writePosition)), offsetInChunk(writePosition), course);
+        writePosition += recordBytes;
+        return geometry;
+    }
+
+    private void compactIfMostlySuperseded() {
+        if (supersededBytes > liveBytes) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        Path compactedPath = path.resolveSibling(path.getFileName() + ".compact");
+        List<MappedByteBuffer> compactedChunks = new ArrayList<>();
+        List<CourseGeometry> copied = new ArrayList<>(geometries.size());
+        try {
+            FileChannel compactedChannel = FileChannel.open(compactedPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long position = initialize(chunk(compactedChannel, compactedChunks, 0));
+            for (CourseGeometry geometry : geometries.values()) {
+                int recordBytes = aligned(geometry.encodedSize());
+                position = placeRecord(position, recordBytes);
+                copied.add(geometry.copyTo(chunk(compactedChannel, compactedChunks, chunkOf(position)), offsetInChunk(position)));
+                position += recordBytes;
+            }
+            compactedChunks.forEach(MappedByteBuffer::force);
+            compactedChunks.getFirst().putLong(WRITE_POSITION_OFFSET, position);
+            compactedChunks.getFirst().force();
+            Files.move(compactedPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel.close();
+            channel = compactedChannel;
+            chunks = compactedChunks;
+            writePosition = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        copied.forEach(this::index);
+        supersededBytes = 0;
+    }
+
+    private long initialize(ByteBuffer header) {
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(CHUNK_BYTES_OFFSET, chunkBytes);
+        header.putLong(WRITE_POSITION_OFFSET, FILE_HEADER_BYTES);
+        return FILE_HEADER_BYTES;
+    }
+
+    private boolean hasCurrentVersion() throws IOException {
+        ByteBuffer header = readHeader();
+        return header.getInt(MAGIC_OFFSET) == MAGIC && header.getInt(VERSION_OFFSET) == VERSION;
+    }
+
+    private int readChunkBytes() throws IOException {
+        return readHeader().getInt(CHUNK_BYTES_OFFSET);
+    }
+
+    private ByteBuffer readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        return header;
+    }
+
+    private void remap() {
+        long end = chunk(0).getLong(WRITE_POSITION_OFFSET);
+        long position = FILE_HEADER_BYTES;
+        while (position < end) {
+            ByteBuffer buffer = chunk(chunkOf(position));
+            int offset = offsetInChunk(position);
+            if (offset + CourseGeometry.HEADER_BYTES > chunkBytes || CourseGeometry.sizeAt(buffer, offset) == 0) {
+                position = nextChunkStart(position);
+                continue;
+            }
+            CourseGeometry geometry = CourseGeometry.read(buffer, offset);
+            index(geometry);
+            position += aligned(geometry.encodedSize());
+        }
+        writePosition = end;
+    }
+
+    private void index(CourseGeometry geometry) {
+        CourseGeometry previous = geometries.put(geometry.id(), geometry);
+        if (previous != null) {
+            removeFromCells(previous);
+            supersededBytes += aligned(previous.encodedSize());
+            liveBytes -= aligned(previous.encodedSize());
+        }
+        liveBytes += aligned(geometry.encodedSize());
+        if (!forEachCell(geometry.boundingBox(), cell -> cells.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet())
+                .add(geometry.id()))) {
+            oversized.add(geometry.id());
+        }
+    }
+
+    private void unindex(Long courseId) {
+        CourseGeometry removed = geometries.remove(courseId);
+        if (removed != null) {
+            removeFromCells(removed);
+            liveBytes -= aligned(removed.encodedSize());
+        }
+    }
+
+    private void removeFromCells(CourseGeometry geometry) {
+        forEachCell(geometry.boundingBox(), cell -> cells.computeIfPresent(cell, (key, ids) -> {
+            ids.remove(geometry.id());
+            return ids.isEmpty() ? null : ids;
+        }));
+        oversized.remove(geometry.id());
+    }
+
+    private static boolean forEachCell(BoundingBox boundingBox, LongConsumer action) {
+        int minLatitudeCell = latitudeCellOf(boundingBox.minLatitude());
+        int maxLatitudeCell = latitudeCellOf(boundingBox.maxLatitude());
+        int minLongitudeCell = longitudeCellOf(boundingBox.minLongitude());
+        int maxLongitudeCell = longitudeCellOf(boundingBox.maxLongitude());
+        if ((long) (maxLatitudeCell - minLatitudeCell + 1) * (maxLongitudeCell - minLongitudeCell + 1) > MAX_CELLS_PER_COURSE) {
+            return false;
+        }
+        for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+                action.accept(cellKey(latitudeCell, longitudeCell));
+            }
+        }
+        return true;
+    }
+
+    private static int latitudeCellOf(double latitude) {
+        return (int) Math.floor((Math.clamp(latitude, -90, 90) + 90) / CELL_DEGREES);
+    }
+
+    private static int longitudeCellOf(double longitude) {
+        return (int) Math.floor((Math.clamp(longitude, -180, 180) + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latitudeCell, int longitudeCell) {
+        return latitudeCell * LONGITUDE_CELLS + longitudeCell;
+    }
+
+    private MappedByteBuffer chunk(int index) {
+        return chunk(channel, chunks, index);
+    }
+
+    private MappedByteBuffer chunk(FileChannel fileChannel, List<MappedByteBuffer> mappedChunks, int index) {
+        try {
+            while (mappedChunks.size() <= index) {
+                MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, (long) mappedChunks.size() * chunkBytes, chunkBytes);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                mappedChunks.add(buffer);
+            }
+            return mappedChunks.get(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long placeRecord(long position, int recordBytes) {
+        if (offsetInChunk(position) + recordBytes > chunkBytes) {
+            return nextChunkStart(position);
+        }
+        return position;
+    }
+
+    private int chunkOf(long position) {
+        return Math.toIntExact(position / chunkBytes);
+    }
+
+    private int offsetInChunk(long position) {
+        return (int) (position % chunkBytes);
+    }
+
+    private long nextChunkStart(long position) {
+        return (position / chunkBytes + 1) * chunkBytes;
+    }
+
+    private static int recordBytesOf(Course course) {
+        return aligned(CourseGeometry.encodedSize(course));
+    }
+
+    private static int aligned(int bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
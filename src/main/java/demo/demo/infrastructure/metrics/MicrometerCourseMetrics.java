@@ -0,0 +1,89 @@
+package demo.demo.infrastructure.metrics;
+
+import demo.demo.domain.CourseMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "course.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MicrometerCourseMetrics implements CourseMetrics {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Timer distanceSearchTimer;
+    private final DistributionSummary scannedCourses;
+    private final DistributionSummary matchedCourses;
+    private final Timer snapTimer;
+    private final DistributionSummary snappedCoordinates;
+    private final Timer parseTimer;
+    private final DistributionSummary parsedPoints;
+    private final DistributionSummary parsedBytes;
+    private final DistributionSummary parsePointRate;
+    private final DistributionSummary parseByteRate;
+    private final Timer constructionTimer;
+    private final DistributionSummary constructedCoordinates;
+
+    public MicrometerCourseMetrics(MeterRegistry registry) {
+        this.distanceSearchTimer = Timer.builder("course.distance.search")
+                .description("findAllHasDistanceWithin latency")
+                .register(registry);
+        this.scannedCourses = summary(registry, "course.distance.search.scanned", "courses", "Bounding box candidates per search");
+        this.matchedCourses = summary(registry, "course.distance.search.matched", "courses", "Courses within distance per search");
+        this.snapTimer = Timer.builder("course.snap")
+                .description("Snap request latency")
+                .register(registry);
+        this.snappedCoordinates = summary(registry, "course.snap.coordinates", "coordinates", "Coordinates per snap request");
+        this.parseTimer = Timer.builder("course.parse")
+                .description("Time spent inside the parser per file")
+                .register(registry);
+        this.parsedPoints = summary(registry, "course.parse.points", "points", "Points parsed per file");
+        this.parsedBytes = summary(registry, "course.parse.bytes", "bytes", "Bytes read per file");
+        this.parsePointRate = summary(registry, "course.parse.points.rate", "points/s", "Parse throughput per file");
+        this.parseByteRate = summary(registry, "course.parse.bytes.rate", "bytes/s", "Parse throughput per file");
+        this.constructionTimer = Timer.builder("course.construction")
+                .description("Course constructor latency")
+                .register(registry);
+        this.constructedCoordinates = summary(registry, "course.construction.coordinates", "coordinates", "Coordinates per constructed course");
+    }
+
+    private static DistributionSummary summary(MeterRegistry registry, String name, String baseUnit, String description) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .description(description)
+                .register(registry);
+    }
+
+    @Override
+    public void recordDistanceSearch(long elapsedNanos, int scannedCount, int matchedCount) {
+        distanceSearchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        scannedCourses.record(scannedCount);
+        matchedCourses.record(matchedCount);
+    }
+
+    @Override
+    public void recordSnap(long elapsedNanos, int coordinateCount) {
+        snapTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        snappedCoordinates.record(coordinateCount);
+    }
+
+    @Override
+    public void recordParse(long elapsedNanos, long pointCount, long byteCount) {
+        parseTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        parsedPoints.record(pointCount);
+        parsedBytes.record(byteCount);
+        if (elapsedNanos > 0) {
+            parsePointRate.record(pointCount * NANOS_PER_SECOND / elapsedNanos);
+            parseByteRate.record(byteCount * NANOS_PER_SECOND / elapsedNanos);
+        }
+    }
+
+    @Override
+    public void recordConstruction(long elapsedNanos, int coordinateCount) {
+        constructionTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        constructedCoordinates.record(coordinateCount);
+    }
+}
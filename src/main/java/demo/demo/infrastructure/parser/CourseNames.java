@@ -0,0 +1,25 @@
+package demo.demo.infrastructure.parser;
+
+final class CourseNames {
+
+    private static final String DEFAULT_NAME = "이름 없는 코스";
+    private static final int MAX_NAME_LENGTH = 30;
+
+    private CourseNames() {
+    }
+
+    static String of(String name, String fallbackName) {
+        String candidate = name != null ? name : fallbackName;
+        if (candidate == null) {
+            return DEFAULT_NAME;
+        }
+        String compactName = candidate.trim().replaceAll("\\s+", " ");
+        if (compactName.length() < 2) {
+            return DEFAULT_NAME;
+        }
+        if (compactName.length() > MAX_NAME_LENGTH) {
+            return compactName.substring(0, MAX_NAME_LENGTH).trim();
+        }
+        return compactName;
+    }
+}
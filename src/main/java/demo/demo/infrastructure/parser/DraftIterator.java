@@ -0,0 +1,45 @@
+package demo.demo.infrastructure.parser;
+
+import demo.demo.domain.CourseDraft;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+abstract class DraftIterator implements Iterator<CourseDraft> {
+
+    private CourseDraft next;
+    private boolean finished;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNextDraft();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public CourseDraft next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CourseDraft draft = next;
+        next = null;
+        return draft;
+    }
+
+    Stream<CourseDraft> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(this::close);
+    }
+
+    abstract CourseDraft readNextDraft();
+
+    abstract void close();
+}
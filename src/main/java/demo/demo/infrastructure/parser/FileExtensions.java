@@ -0,0 +1,20 @@
+package demo.demo.infrastructure.parser;
+
+final class FileExtensions {
+
+    private FileExtensions() {
+    }
+
+    static boolean matches(String fileExtension, String... extensions) {
+        if (fileExtension == null) {
+            return false;
+        }
+        String normalized = fileExtension.replaceFirst("^\\.", "");
+        for (String extension : extensions) {
+            if (extension.equalsIgnoreCase(normalized)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,299 @@
+package demo.demo.infrastructure.parser;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Coordinates;
+import demo.demo.domain.CourseDraft;
+import demo.demo.domain.CourseParser;
+import demo.demo.domain.RoadType;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FitCourseParser implements CourseParser {
+
+    private static final String EXTENSION = "fit";
+    private static final int MIN_HEADER_SIZE = 12;
+    private static final int DATA_TYPE_OFFSET = 8;
+    private static final byte[] DATA_TYPE = {'.', 'F', 'I', 'T'};
+
+    private static final int RECORD_MESSAGE = 20;
+    private static final int COURSE_MESSAGE = 31;
+    private static final int POSITION_LATITUDE_FIELD = 0;
+    private static final int POSITION_LONGITUDE_FIELD = 1;
+    private static final int ALTITUDE_FIELD = 2;
+    private static final int ENHANCED_ALTITUDE_FIELD = 78;
+    private static final int COURSE_NAME_FIELD = 5;
+
+    private static final long INVALID_SINT32 = 0x7FFFFFFFL;
+    private static final long INVALID_UINT16 = 0xFFFFL;
+    private static final long INVALID_UINT32 = 0xFFFFFFFFL;
+    private static final double DEGREES_PER_SEMICIRCLE = 180.0 / (1L << 31);
+    private static final double ALTITUDE_SCALE = 5;
+    private static final double ALTITUDE_OFFSET = 500;
+
+    private static final int COMPRESSED_HEADER = 0x80;
+    private static final int DEFINITION_HEADER = 0x40;
+    private static final int DEVELOPER_DATA_HEADER = 0x20;
+    private static final int LOCAL_MESSAGE_TYPES = 16;
+    private static final int[] CRC_TABLE = {
+            0x0000, 0xCC01, 0xD801, 0x1400, 0xF001, 0x3C00, 0x2800, 0xE401,
+            0xA001, 0x6C00, 0x7800, 0xB401, 0x5000, 0x9C01, 0x8801, 0x4400
+    };
+
+    @Override
+    public boolean canParse(String fileExtension) {
+        return FileExtensions.matches(fileExtension, EXTENSION);
+    }
+
+    @Override
+    public boolean canParse(byte[] header) {
+        if (header.length < MIN_HEADER_SIZE || (header[0] & 0xFF) < MIN_HEADER_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < DATA_TYPE.length; i++) {
+            if (header[DATA_TYPE_OFFSET + i] != DATA_TYPE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Stream<CourseDraft> readDrafts(InputStream fileStream) {
+        return new FitDraftIterator(new BufferedInputStream(fileStream)).stream();
+    }
+
+    static int crc(int crc, int value) {
+        int next = CRC_TABLE[crc & 0xF];
+        crc = (crc >> 4) & 0x0FFF;
+        crc = crc ^ next ^ CRC_TABLE[value & 0xF];
+        next = CRC_TABLE[crc & 0xF];
+        crc = (crc >> 4) & 0x0FFF;
+        return crc ^ next ^ CRC_TABLE[(value >> 4) & 0xF];
+    }
+
+    private record FieldDefinition(int number, int size) {
+    }
+
+    private record MessageDefinition(int globalMessage, boolean bigEndian, FieldDefinition[] fields, int developerBytes) {
+    }
+
+    private static class FitDraftIterator extends DraftIterator {
+
+        private final InputStream input;
+        private int crc;
+        private long remaining;
+
+        private FitDraftIterator(InputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        CourseDraft readNextDraft() {
+            try {
+                while (readFileHeader()) {
+                    CourseDraft draft = readFile();
+                    if (draft != null) {
+                        return draft;
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new IllegalArgumentException("", e);
+            }
+        }
+
+        private boolean readFileHeader() throws IOException {
+            int headerSize = input.read();
+            if (headerSize < 0) {
+                return false;
+            }
+            if (headerSize < MIN_HEADER_SIZE) {
+                throw new IllegalArgumentException("");
+            }
+            crc = crc(0, headerSize);
+            remaining = Long.MAX_VALUE;
+            byte[] header = new byte[headerSize];
+            header[0] = (byte) headerSize;
+            for (int i = 1; i < headerSize; i++) {
+                header[i] = (byte) readByte();
+            }
+            for (int i = 0; i < DATA_TYPE.length; i++) {
+                if (header[DATA_TYPE_OFFSET + i] != DATA_TYPE[i]) {
+                    throw new IllegalArgumentException("");
+                }
+            }
+            remaining = (header[4] & 0xFFL) | (header[5] & 0xFFL) << 8 | (header[6] & 0xFFL) << 16 | (header[7] & 0xFFL) << 24;
+            return true;
+        }
+
+        private CourseDraft readFile() throws IOException {
+            MessageDefinition[] definitions = new MessageDefinition[LOCAL_MESSAGE_TYPES];
+            Coordinates.Builder points = Coordinates.builder();
+            String courseName = null;
+            while (remaining > 0) {
+                int recordHeader = readByte();
+                if ((recordHeader & COMPRESSED_HEADER) == 0 && (recordHeader & DEFINITION_HEADER) != 0) {
+                    definitions[recordHeader & 0x0F] = readDefinition((recordHeader & DEVELOPER_DATA_HEADER) != 0);
+                    continue;
+                }
+                int localMessage = (recordHeader & COMPRESSED_HEADER) != 0 ? (recordHeader >> 5) & 0x03 : recordHeader & 0x0F;
+                MessageDefinition definition = definitions[localMessage];
+                if (definition == null) {
+                    throw new IllegalArgumentException("");
+                }
+                switch (definition.globalMessage()) {
+                    case RECORD_MESSAGE -> {
+                        Coordinate point = readRecord(definition);
+                        if (point != null) {
+                            points.add(point);
+                        }
+                    }
+                    case COURSE_MESSAGE -> {
+                        String name = readCourseName(definition);
+                        if (name != null) {
+                            courseName = name;
+                        }
+                    }
+                    default -> skip(definition);
+                }
+            }
+            int expectedCrc = crc;
+            int fileCrc = readByte() | readByte() << 8;
+            if (fileCrc != expectedCrc) {
+                throw new IllegalArgumentException("");
+            }
+            if (points.size() < 2) {
+                return null;
+            }
+            return new CourseDraft(CourseNames.of(courseName, null), RoadType.알수없음, points.build());
+        }
+
+        private MessageDefinition readDefinition(boolean hasDeveloperFields) throws IOException {
+            readByte();
+            boolean bigEndian = readByte() == 1;
+            int first = readByte();
+            int second = readByte();
+            int globalMessage = bigEndian ? first << 8 | second : second << 8 | first;
+            FieldDefinition[] fields = new FieldDefinition[readByte()];
+            for (int i = 0; i < fields.length; i++) {
+                int number = readByte();
+                int size = readByte();
+                readByte();
+                fields[i] = new FieldDefinition(number, size);
+            }
+            int developerBytes = 0;
+            if (hasDeveloperFields) {
+                int developerFields = readByte();
+                for (int i = 0; i < developerFields; i++) {
+                    readByte();
+                    developerBytes += readByte();
+                    readByte();
+                }
+            }
+            return new MessageDefinition(globalMessage, bigEndian, fields, developerBytes);
+        }
+
+        private Coordinate readRecord(MessageDefinition definition) throws IOException {
+            long latitude = INVALID_SINT32;
+            long longitude = INVALID_SINT32;
+            long altitude = INVALID_UINT16;
+            long enhancedAltitude = INVALID_UINT32;
+            for (FieldDefinition field : definition.fields()) {
+                switch (field.number()) {
+                    case POSITION_LATITUDE_FIELD -> latitude = readSigned(field, Integer.BYTES, definition.bigEndian(), INVALID_SINT32);
+                    case POSITION_LONGITUDE_FIELD -> longitude = readSigned(field, Integer.BYTES, definition.bigEndian(), INVALID_SINT32);
+                    case ALTITUDE_FIELD -> altitude = readUnsigned(field, Short.BYTES, definition.bigEndian(), INVALID_UINT16);
+                    case ENHANCED_ALTITUDE_FIELD -> enhancedAltitude = readUnsigned(field, Integer.BYTES, definition.bigEndian(), INVALID_UINT32);
+                    default -> skip(field.size());
+                }
+            }
+            skip(definition.developerBytes());
+            if (latitude == INVALID_SINT32 || longitude == INVALID_SINT32) {
+                return null;
+            }
+            double elevation = 0;
+            if (enhancedAltitude != INVALID_UINT32) {
+                elevation = enhancedAltitude / ALTITUDE_SCALE - ALTITUDE_OFFSET;
+            } else if (altitude != INVALID_UINT16) {
+                elevation = altitude / ALTITUDE_SCALE - ALTITUDE_OFFSET;
+            }
+            return new Coordinate(latitude * DEGREES_PER_SEMICIRCLE, longitude * DEGREES_PER_SEMICIRCLE, elevation);
+        }
+
+        private String readCourseName(MessageDefinition definition) throws IOException {
+            String name = null;
+            for (FieldDefinition field : definition.fields()) {
+                if (field.number() != COURSE_NAME_FIELD) {
+                    skip(field.size());
+                    continue;
+                }
+                byte[] bytes = new byte[field.size()];
+                int length = 0;
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = (byte) readByte();
+                    if (bytes[i] != 0 && length == i) {
+                        length++;
+                    }
+                }
+                name = length == 0 ? null : new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            skip(definition.developerBytes());
+            return name;
+        }
+
+        private long readSigned(FieldDefinition field, int size, boolean bigEndian, long invalid) throws IOException {
+            long value = readUnsigned(field, size, bigEndian, invalid);
+            return value == invalid ? invalid : (int) value;
+        }
+
+        private long readUnsigned(FieldDefinition field, int size, boolean bigEndian, long invalid) throws IOException {
+            if (field.size() != size) {
+                skip(field.size());
+                return invalid;
+            }
+            long value = 0;
+            for (int i = 0; i < size; i++) {
+                long next = readByte();
+                value = bigEndian ? value << 8 | next : value | next << (8 * i);
+            }
+            return value;
+        }
+
+        private void skip(MessageDefinition definition) throws IOException {
+            for (FieldDefinition field : definition.fields()) {
+                skip(field.size());
+            }
+            skip(definition.developerBytes());
+        }
+
+        private void skip(int bytes) throws IOException {
+            for (int i = 0; i < bytes; i++) {
+                readByte();
+            }
+        }
+
+        private int readByte() throws IOException {
+            int value = input.read();
+            if (value < 0) {
+                throw new IllegalArgumentException("");
+            }
+            crc = crc(crc, value);
+            remaining--;
+            return value;
+        }
+
+        @Override
+        void close() {
+            try {
+                input.close();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package demo.demo.infrastructure.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Coordinates;
+import demo.demo.domain.CourseDraft;
+import demo.demo.domain.CourseParser;
+import demo.demo.domain.RoadType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GeoJsonCourseParser implements CourseParser {
+
+    private static final String[] EXTENSIONS = {"geojson", "json"};
+    private static final String TYPE_FIELD = "\"type\"";
+    private static final String LINE_STRING = "LineString";
+    private static final String FEATURE = "Feature";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public boolean canParse(String fileExtension) {
+        return FileExtensions.matches(fileExtension, EXTENSIONS);
+    }
+
+    @Override
+    public boolean canParse(byte[] header) {
+        String text = new String(header, StandardCharsets.ISO_8859_1).stripLeading();
+        return text.startsWith("{") && text.contains(TYPE_FIELD);
+    }
+
+    @Override
+    public Stream<CourseDraft> readDrafts(InputStream fileStream) {
+        try {
+            return new GeoJsonDraftIterator(jsonFactory.createParser(fileStream)).stream();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("", e);
+        }
+    }
+
+    private static class GeoJsonDraftIterator extends DraftIterator {
+
+        private final JsonParser parser;
+        private final GeoJsonObject root = new GeoJsonObject();
+        private boolean started;
+        private boolean readingFeatures;
+        private boolean rootClosed;
+
+        private GeoJsonDraftIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        CourseDraft readNextDraft() {
+            try {
+                if (rootClosed) {
+                    return null;
+                }
+                if (!started) {
+                    started = true;
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        throw new IllegalArgumentException("");
+                    }
+                }
+                while (true) {
+                    if (readingFeatures) {
+                        JsonToken token = parser.nextToken();
+                        if (token == JsonToken.END_ARRAY) {
+                            readingFeatures = false;
+                        } else if (token == JsonToken.START_OBJECT) {
+                            CourseDraft draft = readObject().toDraft();
+                            if (draft != null) {
+                                return draft;
+                            }
+                        } else {
+                            expectValue(token);
+                            parser.skipChildren();
+                        }
+                        continue;
+                    }
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_OBJECT) {
+                        rootClosed = true;
+                        return root.toDraft();
+                    }
+                    if (token != JsonToken.FIELD_NAME) {
+                        throw new IllegalArgumentException("");
+                    }
+                    if ("features".equals(parser.currentName())) {
+                        readingFeatures = expectValue(parser.nextToken()) == JsonToken.START_ARRAY;
+                        if (!readingFeatures) {
+                            parser.skipChildren();
+                        }
+                    } else {
+                        root.readField(this);
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException("", e);
+            }
+        }
+
+        private GeoJsonObject readObject() throws IOException {
+            GeoJsonObject object = new GeoJsonObject();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+                if (token != JsonToken.FIELD_NAME) {
+                    throw new IllegalArgumentException("");
+                }
+                object.readField(this);
+            }
+            return object;
+        }
+
+        private Coordinates.Builder readLine() throws IOException {
+            Coordinates.Builder points = Coordinates.builder();
+            boolean valid = true;
+            JsonToken token;
+            while ((token = expectValue(parser.nextToken())) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_ARRAY) {
+                    valid = false;
+                    parser.skipChildren();
+                    continue;
+                }
+                Coordinate position = readPosition();
+                if (position == null) {
+                    valid = false;
+                } else if (valid) {
+                    points.add(position);
+                }
+            }
+            return valid ? points : null;
+        }
+
+        private Coordinate readPosition() throws IOException {
+            double[] values = new double[3];
+            int count = 0;
+            boolean numeric = true;
+            JsonToken token;
+            while ((token = expectValue(parser.nextToken())) != JsonToken.END_ARRAY) {
+                if (!token.isNumeric()) {
+                    numeric = false;
+                    parser.skipChildren();
+                    continue;
+                }
+                if (count < values.length) {
+                    values[count] = parser.getDoubleValue();
+                }
+                count++;
+            }
+            if (!numeric || count < 2) {
+                return null;
+            }
+            return new Coordinate(values[1], values[0], values[2]);
+        }
+
+        private String readName() throws IOException {
+            String name = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+                if (token != JsonToken.FIELD_NAME) {
+                    throw new IllegalArgumentException("");
+                }
+                String field = parser.currentName();
+                JsonToken value = expectValue(parser.nextToken());
+                if ("name".equals(field) && value == JsonToken.VALUE_STRING) {
+                    name = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return name;
+        }
+
+        private static JsonToken expectValue(JsonToken token) {
+            if (token == null) {
+                throw new IllegalArgumentException("");
+            }
+            return token;
+        }
+
+        @Override
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("", e);
+            }
+        }
+    }
+
+    private static class GeoJsonObject {
+
+        private String type;
+        private String name;
+        private Coordinates.Builder line;
+        private GeoJsonObject geometry;
+
+        private void readField(GeoJsonDraftIterator iterator) throws IOException {
+            JsonParser parser = iterator.parser;
+            String field = parser.currentName();
+            JsonToken value = GeoJsonDraftIterator.expectValue(parser.nextToken());
+            switch (field) {
+                case "type" -> type = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "coordinates" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        line = iterator.readLine();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "geometry" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        geometry = iterator.readObject();
+                    }
+                }
+                case "properties" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        name = iterator.readName();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        private CourseDraft toDraft() {
+            if (FEATURE.equals(type) && geometry != null) {
+                return geometry.toDraft(name);
+            }
+            return toDraft(null);
+        }
+
+        private CourseDraft toDraft(String featureName) {
+            if (!LINE_STRING.equals(type) || line == null || line.size() < 2) {
+                return null;
+            }
+            return new CourseDraft(CourseNames.of(featureName, null), RoadType.알수없음, line.build());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package demo.demo.infrastructure.parser;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Coordinates;
+import demo.demo.domain.CourseDraft;
+import demo.demo.domain.CourseParser;
+import demo.demo.domain.RoadType;
+import java.io.InputStream;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GpxCourseParser implements CourseParser {
+
+    private static final String EXTENSION = "gpx";
+    private static final String ROOT_ELEMENT = "<gpx";
+
+    private final XMLInputFactory inputFactory;
+
+    public GpxCourseParser() {
+        this.inputFactory = XmlDocuments.newInputFactory();
+    }
+
+    @Override
+    public boolean canParse(String fileExtension) {
+        return FileExtensions.matches(fileExtension, EXTENSION);
+    }
+
+    @Override
+    public boolean canParse(byte[] header) {
+        return XmlDocuments.headerContains(header, ROOT_ELEMENT);
+    }
+
+    @Override
+    public Stream<CourseDraft> readDrafts(InputStream fileStream) {
+        return new GpxDraftIterator(XmlDocuments.createReader(inputFactory, fileStream)).stream();
+    }
+
+    private enum State {
+        DOCUMENT, METADATA, TRACK, POINT
+    }
+
+    private static class GpxDraftIterator extends DraftIterator {
+
+        private final XMLStreamReader reader;
+        private State state = State.DOCUMENT;
+        private String metadataName;
+        private String trackName;
+        private Coordinates.Builder points;
+        private double latitude;
+        private double longitude;
+        private double elevation;
+
+        private GpxDraftIterator(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        CourseDraft readNextDraft() {
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        startElement(reader.getLocalName());
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        CourseDraft draft = endElement(reader.getLocalName());
+                        if (draft != null) {
+                            return draft;
+                        }
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new IllegalArgumentException("", e);
+            }
+        }
+
+        private void startElement(String localName) throws XMLStreamException {
+            switch (localName) {
+                case "metadata" -> state = State.METADATA;
+                case "trk", "rte" -> {
+                    state = State.TRACK;
+                    trackName = null;
+                    points = Coordinates.builder();
+                }
+                case "trkpt", "rtept" -> {
+                    if (state == State.TRACK) {
+                        state = State.POINT;
+                        latitude = Double.parseDouble(requiredAttribute("lat"));
+                        longitude = Double.parseDouble(requiredAttribute("lon"));
+                        elevation = 0;
+                    }
+                }
+                case "name" -> {
+                    if (state == State.METADATA) {
+                        metadataName = reader.getElementText();
+                    } else if (state == State.TRACK) {
+                        trackName = reader.getElementText();
+                    }
+                }
+                case "ele" -> {
+                    if (state == State.POINT) {
+                        elevation = Double.parseDouble(reader.getElementText().trim());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private CourseDraft endElement(String localName) {
+            switch (localName) {
+                case "metadata" -> state = State.DOCUMENT;
+                case "trkpt", "rtept" -> {
+                    if (state == State.POINT) {
+                        points.add(new Coordinate(latitude, longitude, elevation));
+                        state = State.TRACK;
+                    }
+                }
+                case "trk", "rte" -> {
+                    state = State.DOCUMENT;
+                    Coordinates.Builder trackPoints = points;
+                    points = null;
+                    if (trackPoints != null && trackPoints.size() >= 2) {
+                        return new CourseDraft(CourseNames.of(trackName, metadataName), RoadType.알수없음, trackPoints.build());
+                    }
+                }
+                default -> {
+                }
+            }
+            return null;
+        }
+
+        private String requiredAttribute(String name) {
+            String value = reader.getAttributeValue(null, name);
+            if (value == null) {
+                throw new IllegalArgumentException("");
+            }
+            return value.trim();
+        }
+
+        @Override
+        void close() {
+            XmlDocuments.close(reader);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package demo.demo.infrastructure.parser;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Coordinates;
+import demo.demo.domain.CourseDraft;
+import demo.demo.domain.CourseParser;
+import demo.demo.domain.RoadType;
+import java.io.InputStream;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TcxCourseParser implements CourseParser {
+
+    private static final String EXTENSION = "tcx";
+    private static final String ROOT_ELEMENT = "<TrainingCenterDatabase";
+
+    private final XMLInputFactory inputFactory;
+
+    public TcxCourseParser() {
+        this.inputFactory = XmlDocuments.newInputFactory();
+    }
+
+    @Override
+    public boolean canParse(String fileExtension) {
+        return FileExtensions.matches(fileExtension, EXTENSION);
+    }
+
+    @Override
+    public boolean canParse(byte[] header) {
+        return XmlDocuments.headerContains(header, ROOT_ELEMENT);
+    }
+
+    @Override
+    public Stream<CourseDraft> readDrafts(InputStream fileStream) {
+        return new TcxDraftIterator(XmlDocuments.createReader(inputFactory, fileStream)).stream();
+    }
+
+    private enum State {
+        DOCUMENT, COURSE, COURSE_POINT, POINT
+    }
+
+    private static class TcxDraftIterator extends DraftIterator {
+
+        private final XMLStreamReader reader;
+        private State state = State.DOCUMENT;
+        private String courseName;
+        private Coordinates.Builder points;
+        private Double latitude;
+        private Double longitude;
+        private double elevation;
+
+        private TcxDraftIterator(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        CourseDraft readNextDraft() {
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        startElement(reader.getLocalName());
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        CourseDraft draft = endElement(reader.getLocalName());
+                        if (draft != null) {
+                            return draft;
+                        }
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new IllegalArgumentException("", e);
+            }
+        }
+
+        private void startElement(String localName) throws XMLStreamException {
+            switch (localName) {
+                case "Course", "Activity" -> {
+                    state = State.COURSE;
+                    courseName = null;
+                    points = Coordinates.builder();
+                }
+                case "CoursePoint" -> {
+                    if (state == State.COURSE) {
+                        state = State.COURSE_POINT;
+                    }
+                }
+                case "Trackpoint" -> {
+                    if (state == State.COURSE) {
+                        state = State.POINT;
+                        latitude = null;
+                        longitude = null;
+                        elevation = 0;
+                    }
+                }
+                case "Name" -> {
+                    if (state == State.COURSE) {
+                        courseName = reader.getElementText();
+                    }
+                }
+                case "LatitudeDegrees" -> {
+                    if (state == State.POINT) {
+                        latitude = Double.parseDouble(reader.getElementText().trim());
+                    }
+                }
+                case "LongitudeDegrees" -> {
+                    if (state == State.POINT) {
+                        longitude = Double.parseDouble(reader.getElementText().trim());
+                    }
+                }
+                case "AltitudeMeters" -> {
+                    if (state == State.POINT) {
+                        elevation = Double.parseDouble(reader.getElementText().trim());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private CourseDraft endElement(String localName) {
+            switch (localName) {
+                case "CoursePoint" -> {
+                    if (state == State.COURSE_POINT) {
+                        state = State.COURSE;
+                    }
+                }
+                case "Trackpoint" -> {
+                    if (state == State.POINT) {
+                        if (latitude != null && longitude != null) {
+                            points.add(new Coordinate(latitude, longitude, elevation));
+                        }
+                        state = State.COURSE;
+                    }
+                }
+                case "Course", "Activity" -> {
+                    state = State.DOCUMENT;
+                    Coordinates.Builder coursePoints = points;
+                    points = null;
+                    if (coursePoints != null && coursePoints.size() >= 2) {
+                        return new CourseDraft(CourseNames.of(courseName, null), RoadType.알수없음, coursePoints.build());
+                    }
+                }
+                default -> {
+                }
+            }
+            return null;
+        }
+
+        @Override
+        void close() {
+            XmlDocuments.close(reader);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package demo.demo.infrastructure.parser;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+final class XmlDocuments {
+
+    private XmlDocuments() {
+    }
+
+    static XMLInputFactory newInputFactory() {
+        XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return inputFactory;
+    }
+
+    static XMLStreamReader createReader(XMLInputFactory inputFactory, InputStream fileStream) {
+        try {
+            return inputFactory.createXMLStreamReader(fileStream);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("", e);
+        }
+    }
+
+    static void close(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("", e);
+        }
+    }
+
+    static boolean headerContains(byte[] header, String element) {
+        return new String(header, StandardCharsets.ISO_8859_1).contains(element);
+    }
+}
@@ -0,0 +1,151 @@
+package demo.demo.presentation;
+
+import demo.demo.application.CourseFile;
+import demo.demo.application.CourseImportPipeline;
+import demo.demo.application.CourseService;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.CourseSearchCondition;
+import demo.demo.domain.Meter;
+import demo.demo.domain.RoadType;
+import demo.demo.domain.Tile;
+import demo.demo.presentation.dto.CoordinateResponse;
+import demo.demo.presentation.dto.CourseImportResponse;
+import demo.demo.presentation.dto.CourseProgressResponse;
+import demo.demo.presentation.dto.CourseSearchResponse;
+import demo.demo.presentation.dto.CourseTileResponse;
+import demo.demo.presentation.dto.ElevationProfileResponse;
+import demo.demo.presentation.dto.ImportProgressResponse;
+import demo.demo.presentation.dto.NearCourseResponse;
+import demo.demo.presentation.dto.SnapRequest;
+import demo.demo.presentation.dto.SnappedCoordinateResponse;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/courses")
+public class CourseController {
+
+    private final CourseService courseService;
+    private final CourseImportPipeline courseImportPipeline;
+
+    public CourseController(CourseService courseService, CourseImportPipeline courseImportPipeline) {
+        this.courseService = courseService;
+        this.courseImportPipeline = courseImportPipeline;
+    }
+
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CourseImportResponse importCourses(@RequestParam List<MultipartFile> files) {
+        List<CourseFile> courseFiles = files.stream()
+                .map(file -> new CourseFile(file.getOriginalFilename(), file))
+                .toList();
+        return CourseImportResponse.from(courseImportPipeline.importAll(courseFiles));
+    }
+
+    @GetMapping("/import/active")
+    public List<ImportProgressResponse> activeImports() {
+        return courseImportPipeline.activeImports().stream()
+                .map(ImportProgressResponse::from)
+                .toList();
+    }
+
+    @GetMapping("/{courseId}/coordinates")
+    public List<CoordinateResponse> coordinates(@PathVariable Long courseId, @RequestParam(required = false) Integer zoom) {
+        return courseService.coordinates(courseId, zoom).stream()
+                .map(CoordinateResponse::from)
+                .toList();
+    }
+
+    @GetMapping
+    public List<NearCourseResponse> findAllWithin(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam double radius
+    ) {
+        return courseService.findAllWithin(new Coordinate(latitude, longitude), new Meter(radius)).stream()
+                .map(NearCourseResponse::from)
+                .toList();
+    }
+
+    @GetMapping("/search")
+    public CourseSearchResponse search(
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) RoadType roadType,
+            @RequestParam(defaultValue = "0") double minLength,
+            @RequestParam(required = false) Double maxLength,
+            @RequestParam(defaultValue = "1") double minDifficulty,
+            @RequestParam(defaultValue = "10") double maxDifficulty,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CourseSearchCondition condition = new CourseSearchCondition(
+                centerOf(latitude, longitude),
+                radius == null ? null : new Meter(radius),
+                roadType,
+                new Meter(minLength),
+                maxLength == null ? Meter.max() : new Meter(maxLength),
+                minDifficulty,
+                maxDifficulty,
+                cursor,
+                size
+        );
+        return CourseSearchResponse.from(courseService.search(condition));
+    }
+
+    @GetMapping("/nearest")
+    public List<NearCourseResponse> nearest(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "20") int k
+    ) {
+        return courseService.findNearest(new Coordinate(latitude, longitude), k).stream()
+                .map(NearCourseResponse::from)
+                .toList();
+    }
+
+    @GetMapping("/tiles/{zoom}/{x}/{y}")
+    public CourseTileResponse tile(@PathVariable int zoom, @PathVariable int x, @PathVariable int y) {
+        return CourseTileResponse.from(courseService.tile(new Tile(zoom, x, y)));
+    }
+
+    @GetMapping("/{courseId}/progress")
+    public CourseProgressResponse progress(@PathVariable Long courseId, @RequestParam double latitude, @RequestParam double longitude) {
+        return CourseProgressResponse.from(courseService.progress(courseId, new Coordinate(latitude, longitude)));
+    }
+
+    @GetMapping("/{courseId}/elevation")
+    public ElevationProfileResponse elevation(@PathVariable Long courseId) {
+        return ElevationProfileResponse.from(courseService.elevationProfile(courseId));
+    }
+
+    @GetMapping("/{courseId}/position")
+    public CoordinateResponse position(@PathVariable Long courseId, @RequestParam double distance) {
+        return CoordinateResponse.from(courseService.coordinateAt(courseId, new Meter(distance)));
+    }
+
+    @PostMapping("/{courseId}/snap")
+    public List<SnappedCoordinateResponse> snap(@PathVariable Long courseId, @RequestBody SnapRequest request) {
+        return courseService.snap(courseId, request.toCoordinates()).stream()
+                .map(SnappedCoordinateResponse::from)
+                .toList();
+    }
+
+    private static Coordinate centerOf(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("");
+        }
+        return new Coordinate(latitude, longitude);
+    }
+}
@@ -0,0 +1,49 @@
+package demo.demo.presentation;
+
+import demo.demo.application.RunnerTracker;
+import demo.demo.presentation.dto.CoordinateRequest;
+import demo.demo.presentation.dto.TrackingStartRequest;
+import demo.demo.presentation.dto.TrackingStatusResponse;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/tracking/sessions")
+public class TrackingController {
+
+    private final RunnerTracker runnerTracker;
+
+    public TrackingController(RunnerTracker runnerTracker) {
+        this.runnerTracker = runnerTracker;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public TrackingStatusResponse start(@RequestBody TrackingStartRequest request) {
+        return TrackingStatusResponse.from(runnerTracker.start(request.courseId()));
+    }
+
+    @PostMapping("/{sessionId}/fixes")
+    public TrackingStatusResponse update(@PathVariable UUID sessionId, @RequestBody CoordinateRequest fix) {
+        return TrackingStatusResponse.from(runnerTracker.update(sessionId, fix.toCoordinate()));
+    }
+
+    @GetMapping("/{sessionId}")
+    public TrackingStatusResponse status(@PathVariable UUID sessionId) {
+        return TrackingStatusResponse.from(runnerTracker.status(sessionId));
+    }
+
+    @DeleteMapping("/{sessionId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void end(@PathVariable UUID sessionId) {
+        runnerTracker.end(sessionId);
+    }
+}
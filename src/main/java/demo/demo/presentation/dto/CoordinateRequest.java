@@ -0,0 +1,12 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.Coordinate;
+
+public record CoordinateRequest(
+        double latitude,
+        double longitude
+) {
+    public Coordinate toCoordinate() {
+        return new Coordinate(latitude, longitude);
+    }
+}
@@ -0,0 +1,13 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.Coordinate;
+
+public record CoordinateResponse(
+        double latitude,
+        double longitude,
+        double elevation
+) {
+    public static CoordinateResponse from(Coordinate coordinate) {
+        return new CoordinateResponse(coordinate.latitude(), coordinate.longitude(), coordinate.elevation());
+    }
+}
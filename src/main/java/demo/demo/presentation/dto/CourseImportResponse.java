@@ -0,0 +1,32 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.application.CourseImportReport;
+import demo.demo.application.ImportStage;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record CourseImportResponse(
+        long parsedFiles,
+        long failedFiles,
+        long parsedCourses,
+        long rejectedCourses,
+        long savedCourses,
+        long savedCoordinates,
+        long elapsedMillis,
+        Map<ImportStage, Long> stageBusyMillis
+) {
+    public static CourseImportResponse from(CourseImportReport report) {
+        Map<ImportStage, Long> stageBusyMillis = new EnumMap<>(ImportStage.class);
+        report.stageBusyTimes().forEach((stage, busyTime) -> stageBusyMillis.put(stage, busyTime.toMillis()));
+        return new CourseImportResponse(
+                report.parsedFiles(),
+                report.failedFiles(),
+                report.parsedCourses(),
+                report.rejectedCourses(),
+                report.result().courseCount(),
+                report.result().coordinateCount(),
+                report.result().elapsed().toMillis(),
+                stageBusyMillis
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.CourseProgress;
+
+public record CourseProgressResponse(
+        double latitude,
+        double longitude,
+        int segment,
+        double distanceFromCourse,
+        double covered,
+        double remaining
+) {
+    public static CourseProgressResponse from(CourseProgress progress) {
+        return new CourseProgressResponse(
+                progress.snappedCoordinate().coordinate().latitude(),
+                progress.snappedCoordinate().coordinate().longitude(),
+                progress.snappedCoordinate().segment(),
+                progress.snappedCoordinate().distance().value(),
+                progress.covered().value(),
+                progress.remaining().value()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.CourseSearchPage;
+import java.util.List;
+
+public record CourseSearchResponse(
+        List<CourseSummaryResponse> courses,
+        Long nextCursor
+) {
+    public static CourseSearchResponse from(CourseSearchPage page) {
+        return new CourseSearchResponse(
+                page.courses().stream()
+                        .map(CourseSummaryResponse::from)
+                        .toList(),
+                page.nextCursor()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.CourseSummary;
+import demo.demo.domain.RoadType;
+
+public record CourseSummaryResponse(
+        Long id,
+        String name,
+        RoadType roadType,
+        double length,
+        double difficulty
+) {
+    public static CourseSummaryResponse from(CourseSummary summary) {
+        return new CourseSummaryResponse(
+                summary.id(),
+                summary.name(),
+                summary.roadType(),
+                summary.length().value(),
+                summary.difficulty()
+        );
+    }
+}
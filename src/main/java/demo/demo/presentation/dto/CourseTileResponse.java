@@ -0,0 +1,29 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.application.CourseTile;
+import java.util.List;
+
+public record CourseTileResponse(
+        int zoom,
+        int x,
+        int y,
+        List<CourseTileFeatureResponse> courses
+) {
+    public static CourseTileResponse from(CourseTile tile) {
+        return new CourseTileResponse(
+                tile.tile().zoom(),
+                tile.tile().x(),
+                tile.tile().y(),
+                tile.features().stream()
+                        .map(feature -> new CourseTileFeatureResponse(feature.courseId(), feature.name(), feature.polylines()))
+                        .toList()
+        );
+    }
+
+    public record CourseTileFeatureResponse(
+            Long id,
+            String name,
+            List<String> polylines
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.ElevationProfile;
+import java.util.ArrayList;
+import java.util.List;
+
+public record ElevationProfileResponse(
+        double ascent,
+        double descent,
+        double maxGrade,
+        List<ElevationSampleResponse> samples
+) {
+    public static ElevationProfileResponse from(ElevationProfile profile) {
+        double[] elevations = profile.samples();
+        List<ElevationSampleResponse> samples = new ArrayList<>(elevations.length);
+        for (int i = 0; i < elevations.length; i++) {
+            samples.add(new ElevationSampleResponse(profile.distanceAt(i), elevations[i]));
+        }
+        return new ElevationProfileResponse(profile.ascent(), profile.descent(), profile.maxGrade(), samples);
+    }
+
+    public record ElevationSampleResponse(double distance, double elevation) {
+    }
+}
@@ -0,0 +1,29 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.application.ImportProgress;
+
+public record ImportProgressResponse(
+        long importId,
+        long parsedFiles,
+        long failedFiles,
+        long parsedCourses,
+        long rejectedCourses,
+        long constructedCourses,
+        long savedCourses,
+        long savedCoordinates,
+        long elapsedMillis
+) {
+    public static ImportProgressResponse from(ImportProgress progress) {
+        return new ImportProgressResponse(
+                progress.id(),
+                progress.parsedFiles(),
+                progress.failedFiles(),
+                progress.parsedCourses(),
+                progress.rejectedCourses(),
+                progress.constructedCourses(),
+                progress.savedCourses(),
+                progress.savedCoordinates(),
+                progress.elapsed().toMillis()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.NearCourse;
+
+public record NearCourseResponse(
+        Long id,
+        String name,
+        double length,
+        double difficulty,
+        double distance
+) {
+    public static NearCourseResponse from(NearCourse near) {
+        return new NearCourseResponse(
+                near.course().id(),
+                near.course().name(),
+                near.course().length().value(),
+                near.course().difficulty(),
+                near.distance().value()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.Coordinate;
+import java.util.List;
+
+public record SnapRequest(
+        List<CoordinateRequest> coordinates
+) {
+    public static final int MAX_SIZE = 10_000;
+
+    public List<Coordinate> toCoordinates() {
+        if (coordinates == null || coordinates.size() > MAX_SIZE || coordinates.contains(null)) {
+            throw new IllegalArgumentException("");
+        }
+        return coordinates.stream()
+                .map(CoordinateRequest::toCoordinate)
+                .toList();
+    }
+}
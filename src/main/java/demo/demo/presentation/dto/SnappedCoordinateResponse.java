@@ -0,0 +1,19 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.domain.SnappedCoordinate;
+
+public record SnappedCoordinateResponse(
+        double latitude,
+        double longitude,
+        int segment,
+        double distance
+) {
+    public static SnappedCoordinateResponse from(SnappedCoordinate snappedCoordinate) {
+        return new SnappedCoordinateResponse(
+                snappedCoordinate.coordinate().latitude(),
+                snappedCoordinate.coordinate().longitude(),
+                snappedCoordinate.segment(),
+                snappedCoordinate.distance().value()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package demo.demo.presentation.dto;
+
+public record TrackingStartRequest(
+        Long courseId
+) {
+    public TrackingStartRequest {
+        if (courseId == null) {
+            throw new IllegalArgumentException("");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package demo.demo.presentation.dto;
+
+import demo.demo.application.TrackingStatus;
+import java.util.UUID;
+
+public record TrackingStatusResponse(
+        UUID sessionId,
+        Long courseId,
+        double latitude,
+        double longitude,
+        int segment,
+        double distanceFromCourse,
+        double covered,
+        double remaining,
+        long fixCount,
+        boolean offCourse
+) {
+    public static TrackingStatusResponse from(TrackingStatus status) {
+        return new TrackingStatusResponse(
+                status.sessionId(),
+                status.courseId(),
+                status.progress().snappedCoordinate().coordinate().latitude(),
+                status.progress().snappedCoordinate().coordinate().longitude(),
+                status.progress().snappedCoordinate().segment(),
+                status.progress().snappedCoordinate().distance().value(),
+                status.progress().covered().value(),
+                status.progress().remaining().value(),
+                status.fixCount(),
+                status.offCourse()
+        );
+    }
+}
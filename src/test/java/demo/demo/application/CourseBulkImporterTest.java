@@ -0,0 +1,74 @@
+package demo.demo.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CourseBulkImporter.class)
+class CourseBulkImporterTest {
+
+    @Autowired
+    private CourseBulkImporter courseBulkImporter;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 모든_코스를_저장하고_처리량을_보고한다() {
+        CourseImportResult result = courseBulkImporter.importAll(courses(250), 100);
+
+        assertThat(result.courseCount()).isEqualTo(250);
+        assertThat(result.coordinateCount()).isEqualTo(250 * 4);
+        assertThat(result.coursesPerSecond()).isPositive();
+        assertThat(courseRepository.findAll()).hasSize(250);
+    }
+
+    @Test
+    void 코스를_배치_단위로_묶어서_저장한다() {
+        courseBulkImporter.importAll(courses(250), 100);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(250);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    @Test
+    void 배치_크기가_1보다_작으면_예외가_발생한다() {
+        assertThatThrownBy(() -> courseBulkImporter.importAll(courses(1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Stream<Course> courses(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Course("코스 " + i, List.of(
+                        new Coordinate(37.5 + i * 0.001, 127.0),
+                        new Coordinate(37.501 + i * 0.001, 127.0),
+                        new Coordinate(37.5005 + i * 0.001, 127.001)
+                )));
+    }
+}
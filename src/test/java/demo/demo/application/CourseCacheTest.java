@@ -0,0 +1,126 @@
+package demo.demo.application;
+
+import static demo.demo.domain.CourseFixture.course;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseRepository;
+import demo.demo.infrastructure.geometry.MappedCourseGeometryStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({CourseCache.class, CourseCacheTest.MeterRegistryConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseCacheTest {
+
+    @Autowired
+    private CourseCache courseCache;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ObjectProvider<CourseGeometryStore> courseGeometryStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from course");
+    }
+
+    @Test
+    void 한번_조회한_코스는_저장소를_거치지_않고_반환한다() {
+        Course saved = courseRepository.saveAll(List.of(course("석촌호수", 37.509287, 127.098094))).getFirst();
+        double hits = cacheGets("hit");
+        double misses = cacheGets("miss");
+
+        Course first = courseCache.findById(saved.id()).orElseThrow();
+        Course second = courseCache.findById(saved.id()).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(cacheGets("hit") - hits).isEqualTo(1);
+        assertThat(cacheGets("miss") - misses).isEqualTo(1);
+    }
+
+    @Test
+    void 없는_코스는_캐시하지_않는다() {
+        assertThat(courseCache.findById(-1L)).isEmpty();
+        assertThat(courseCache.findById(-1L)).isEmpty();
+    }
+
+    @Test
+    void 좌표_수_기준으로_용량을_제한한다() {
+        SimpleMeterRegistry smallCacheRegistry = new SimpleMeterRegistry();
+        CourseCache smallCache = new CourseCache(courseRepository, courseGeometryStore, smallCacheRegistry, 10);
+        List<Course> saved = courseRepository.saveAll(List.of(
+                course("석촌호수", 37.509287, 127.098094),
+                course("올림픽공원", 37.520000, 127.098094),
+                course("잠실종합운동장", 37.515000, 127.098094)
+        ));
+
+        saved.forEach(course -> smallCache.findById(course.id()));
+
+        await().untilAsserted(() -> assertThat(smallCacheRegistry.get("cache.evictions").tags("cache", "courses")
+                .functionCounter().count()).isEqualTo(1));
+    }
+
+    @Test
+    void 형상_저장소에_있는_코스는_저장소에서_복원한다(@TempDir Path directory) {
+        Course saved = courseRepository.saveAll(List.of(course("석촌호수", 37.509287, 127.098094))).getFirst();
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(saved));
+            jdbcTemplate.update("delete from course");
+            CourseCache storeCache = new CourseCache(
+                    courseRepository,
+                    new StaticListableBeanFactory(Map.of("courseGeometryStore", store)).getBeanProvider(CourseGeometryStore.class),
+                    new SimpleMeterRegistry(),
+                    1000
+            );
+
+            Course restored = storeCache.findById(saved.id()).orElseThrow();
+
+            assertThat(restored.id()).isEqualTo(saved.id());
+            assertThat(restored.name()).isEqualTo(saved.name());
+            assertThat(restored.coordinates()).isEqualTo(saved.coordinates());
+            assertThat(restored.length()).isEqualTo(saved.length());
+            assertThat(restored.difficulty()).isEqualTo(saved.difficulty());
+        }
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tags("cache", "courses", "result", result).functionCounter().count();
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package demo.demo.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometry;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseRepository;
+import demo.demo.infrastructure.geometry.MappedCourseGeometryStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({CourseGeometryLoader.class, CourseGeometryLoaderTest.StoreConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseGeometryLoaderTest {
+
+    @Autowired
+    private CourseGeometryLoader courseGeometryLoader;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseGeometryStore courseGeometryStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from course");
+    }
+
+    @Test
+    void 형상_저장소를_데이터베이스와_맞춘다() {
+        List<Course> saved = courseRepository.saveAll(List.of(
+                new Course("석촌호수", List.of(new Coordinate(37.509287, 127.098094), new Coordinate(37.510485, 127.101572))),
+                new Course("올림픽공원", List.of(new Coordinate(37.520000, 127.120000), new Coordinate(37.521000, 127.121000)))
+        ));
+        courseGeometryStore.putAll(List.of(saved.getFirst()));
+        Course deleted = new Course("한강공원", List.of(new Coordinate(37.530000, 127.000000), new Coordinate(37.531000, 127.001000)));
+        ReflectionTestUtils.setField(deleted, "id", saved.getLast().id() + 100);
+        courseGeometryStore.putAll(List.of(deleted));
+
+        courseGeometryLoader.reconcile();
+
+        assertThat(courseGeometryStore.findAll()).extracting(CourseGeometry::id)
+                .containsExactlyInAnyOrderElementsOf(saved.stream().map(Course::id).toList());
+    }
+
+    @TestConfiguration
+    static class StoreConfiguration {
+
+        @Bean
+        CourseGeometryStore courseGeometryStore() throws IOException {
+            return new MappedCourseGeometryStore(Files.createTempDirectory("course-geometry").resolve("geometry.dat"));
+        }
+    }
+}
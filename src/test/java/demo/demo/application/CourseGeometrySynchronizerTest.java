@@ -0,0 +1,100 @@
+package demo.demo.application;
+
+import static demo.demo.domain.CourseFixture.course;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseRepository;
+import demo.demo.domain.CourseSaved;
+import demo.demo.infrastructure.geometry.MappedCourseGeometryStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import({CourseGeometrySynchronizer.class, CourseGeometrySynchronizerTest.StoreConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseGeometrySynchronizerTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseGeometryStore courseGeometryStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from course");
+    }
+
+    @Test
+    void 저장한_코스를_형상_저장소에도_넣는다() {
+        List<Course> saved = courseRepository.saveAll(List.of(course("석촌호수", 37.509287, 127.098094), course("올림픽공원", 37.520000, 127.098094)));
+
+        for (Course course : saved) {
+            assertThat(courseGeometryStore.findById(course.id())).hasValueSatisfying(geometry -> {
+                assertThat(geometry.name()).isEqualTo(course.name());
+                assertThat(geometry.toCoordinates().asList()).isEqualTo(course.coordinates());
+            });
+        }
+    }
+
+    @Test
+    void 롤백된_코스는_형상_저장소에_넣지_않는다() {
+        Course rolledBack = new TransactionTemplate(transactionManager).execute(status -> {
+            Course saved = courseRepository.saveAll(List.of(course("석촌호수", 37.509287, 127.098094))).getFirst();
+            status.setRollbackOnly();
+            return saved;
+        });
+
+        assertThat(courseGeometryStore.findById(rolledBack.id())).isEmpty();
+    }
+
+    @Test
+    void 형상을_넣지_못해도_저장을_실패시키지_않는다() {
+        CourseGeometryStore failingStore = mock(CourseGeometryStore.class);
+        willThrow(new IllegalArgumentException("")).given(failingStore).putAll(anyCollection());
+        CourseGeometrySynchronizer synchronizer = new CourseGeometrySynchronizer(
+                new StaticListableBeanFactory(Map.of("courseGeometryStore", failingStore)).getBeanProvider(CourseGeometryStore.class)
+        );
+
+        assertThatCode(() -> synchronizer.synchronize(new CourseSaved(course("석촌호수", 37.509287, 127.098094))))
+                .doesNotThrowAnyException();
+        then(failingStore).should().putAll(anyCollection());
+    }
+
+    @TestConfiguration
+    static class StoreConfiguration {
+
+        @Bean
+        CourseGeometryStore courseGeometryStore() throws IOException {
+            return new MappedCourseGeometryStore(Files.createTempDirectory("course-geometry").resolve("geometry.dat"));
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package demo.demo.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.spy;
+
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseMetrics;
+import demo.demo.domain.CourseRepository;
+import demo.demo.infrastructure.metrics.MicrometerCourseMetrics;
+import demo.demo.infrastructure.parser.FitCourseParser;
+import demo.demo.infrastructure.parser.GeoJsonCourseParser;
+import demo.demo.infrastructure.parser.GpxCourseParser;
+import demo.demo.infrastructure.parser.TcxCourseParser;
+import io.jenetics.jpx.GPX;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import(CourseBulkImporter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseImportPipelineTest {
+
+    @Autowired
+    private CourseBulkImporter courseBulkImporter;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CourseImportPipeline courseImportPipeline;
+
+    @BeforeEach
+    void setUp() {
+        courseImportPipeline = new CourseImportPipeline(new CourseParserRegistry(List.of(
+                new GpxCourseParser(), new TcxCourseParser(), new GeoJsonCourseParser(), new FitCourseParser()
+        )), courseBulkImporter, noMetrics(), 10, 2, 2, 2, 2, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseImportPipeline.close();
+        jdbcTemplate.update("delete from course");
+    }
+
+    @Test
+    void 여러_파일의_코스를_모두_저장한다() throws IOException {
+        List<CourseFile> files = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            files.add(new CourseFile("코스" + i + ".gpx", new ByteArrayResource(gpx(i, 5))));
+        }
+
+        CourseImportReport report = courseImportPipeline.importAll(files);
+
+        assertThat(report.parsedFiles()).isEqualTo(20);
+        assertThat(report.parsedCourses()).isEqualTo(100);
+        assertThat(report.result().courseCount()).isEqualTo(100);
+        assertThat(report.result().coordinateCount()).isEqualTo(100 * 4);
+        assertThat(report.stageBusyTimes()).containsOnlyKeys(ImportStage.values());
+        assertThat(courseRepository.findAll()).hasSize(100)
+                .extracting(Course::name)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 압축_파일_안의_코스를_저장한다() throws IOException {
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream zipStream = new ZipOutputStream(zip)) {
+            for (int i = 0; i < 3; i++) {
+                zipStream.putNextEntry(new ZipEntry("courses/코스" + i + ".gpx"));
+                zipStream.write(gpx(i, 2));
+                zipStream.closeEntry();
+            }
+        }
+
+        CourseImportReport report = courseImportPipeline.importAll(List.of(
+                new CourseFile("courses.zip", new ByteArrayResource(zip.toByteArray()))
+        ));
+
+        assertThat(report.parsedFiles()).isEqualTo(3);
+        assertThat(courseRepository.findAll()).hasSize(6);
+    }
+
+    @Test
+    void 읽을_수_없는_파일은_건너뛰고_나머지를_저장한다() throws IOException {
+        CourseImportReport report = courseImportPipeline.importAll(List.of(
+                new CourseFile("코스.gpx", new ByteArrayResource(gpx(0, 3))),
+                new CourseFile("깨진.gpx", new ByteArrayResource("<gpx><trk>".getBytes(StandardCharsets.UTF_8))),
+                new CourseFile("코스.tcx", new ByteArrayResource(new byte[0]))
+        ));
+
+        assertThat(report.parsedFiles()).isEqualTo(1);
+        assertThat(report.failedFiles()).isEqualTo(2);
+        assertThat(courseRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    void 확장자가_없어도_내용으로_형식을_판별한다() throws IOException {
+        String geoJson = """
+                {"type": "Feature", "properties": {"name": "석촌호수"},
+                 "geometry": {"type": "LineString", "coordinates": [[127.098094, 37.509287], [127.101572, 37.510485]]}}
+                """;
+
+        CourseImportReport report = courseImportPipeline.importAll(List.of(
+                new CourseFile("코스", new ByteArrayResource(gpx(0, 2))),
+                new CourseFile("코스.txt", new ByteArrayResource(geoJson.getBytes(StandardCharsets.UTF_8)))
+        ));
+
+        assertThat(report.parsedFiles()).isEqualTo(2);
+        assertThat(courseRepository.findAll()).extracting(Course::name).contains("석촌호수").hasSize(3);
+    }
+
+    @Test
+    void 가상_스레드_모드에서도_모든_코스를_저장한다() throws IOException {
+        List<CourseFile> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            files.add(new CourseFile("코스" + i + ".gpx", new ByteArrayResource(gpx(i, 3))));
+        }
+
+        CourseImportReport report;
+        try (CourseImportPipeline virtualPipeline = new CourseImportPipeline(new CourseParserRegistry(List.of(new GpxCourseParser())),
+                courseBulkImporter, noMetrics(), 10, 2, 2, 2, 2, true)) {
+            report = virtualPipeline.importAll(files);
+        }
+
+        assertThat(report.result().courseCount()).isEqualTo(30);
+        assertThat(courseRepository.findAll()).hasSize(30);
+    }
+
+    @Test
+    void 진행_상황을_단계별로_집계한다() throws IOException {
+        ImportProgress progress = new ImportProgress();
+
+        courseImportPipeline.importAll(List.of(new CourseFile("코스.gpx", new ByteArrayResource(gpx(0, 7)))), progress);
+
+        assertThat(progress.parsedCourses()).isEqualTo(7);
+        assertThat(progress.constructedCourses()).isEqualTo(7);
+        assertThat(progress.savedCourses()).isEqualTo(7);
+    }
+
+    @Test
+    void 동시에_여는_파일_수를_제한한다() throws IOException {
+        AtomicInteger openFiles = new AtomicInteger();
+        AtomicInteger maxOpenFiles = new AtomicInteger();
+        List<CourseFile> files = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            files.add(new CourseFile("코스" + i + ".gpx", new ByteArrayResource(gpx(i, 1)) {
+                @Override
+                public InputStream getInputStream() throws IOException {
+                    maxOpenFiles.accumulateAndGet(openFiles.incrementAndGet(), Math::max);
+                    return new FilterInputStream(super.getInputStream()) {
+                        @Override
+                        public void close() throws IOException {
+                            openFiles.decrementAndGet();
+                            super.close();
+                        }
+                    };
+                }
+            }));
+        }
+
+        CourseImportReport report = courseImportPipeline.importAll(files);
+
+        assertThat(report.parsedFiles()).isEqualTo(20);
+        assertThat(maxOpenFiles.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 동시에_가져와도_저장_작업_수를_제한한다() throws Exception {
+        AtomicInteger writers = new AtomicInteger();
+        AtomicInteger maxWriters = new AtomicInteger();
+        CourseBulkImporter countingImporter = spy(courseBulkImporter);
+        willAnswer(invocation -> {
+            maxWriters.accumulateAndGet(writers.incrementAndGet(), Math::max);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                writers.decrementAndGet();
+            }
+        }).given(countingImporter).saveBatch(anyList());
+        List<Future<CourseImportReport>> reports = new ArrayList<>();
+
+        try (CourseImportPipeline virtualPipeline = new CourseImportPipeline(new CourseParserRegistry(List.of(new GpxCourseParser())),
+                countingImporter, noMetrics(), 2, 2, 2, 2, 2, true);
+             ExecutorService uploads = Executors.newFixedThreadPool(4)) {
+            for (int upload = 0; upload < 4; upload++) {
+                List<CourseFile> files = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    int file = upload * 5 + i;
+                    files.add(new CourseFile("코스" + file + ".gpx", new ByteArrayResource(gpx(file, 3))));
+                }
+                reports.add(uploads.submit(() -> virtualPipeline.importAll(files)));
+            }
+            for (Future<CourseImportReport> report : reports) {
+                assertThat(report.get().result().courseCount()).isEqualTo(15);
+            }
+        }
+
+        assertThat(maxWriters.get()).isLessThanOrEqualTo(2);
+        assertThat(courseRepository.findAll()).hasSize(60)
+                .extracting(Course::name)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 진행_중인_가져오기만_조회된다() throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<ImportProgress> duringImport = new ArrayList<>();
+        CourseFile file = new CourseFile("코스.gpx", new ByteArrayResource(gpx(0, 1)) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                duringImport.addAll(courseImportPipeline.activeImports());
+                return super.getInputStream();
+            }
+        });
+
+        courseImportPipeline.importAll(List.of(file), progress);
+
+        assertThat(duringImport).containsExactly(progress);
+        assertThat(courseImportPipeline.activeImports()).isEmpty();
+    }
+
+    @Test
+    void 가져오는_동안_파싱과_코스_생성을_기록한다() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectProvider<CourseMetrics> metrics = new StaticListableBeanFactory(
+                Map.of("courseMetrics", new MicrometerCourseMetrics(registry))
+        ).getBeanProvider(CourseMetrics.class);
+
+        try (CourseImportPipeline meteredPipeline = new CourseImportPipeline(new CourseParserRegistry(List.of(new GpxCourseParser())),
+                courseBulkImporter, metrics, 10, 2, 2, 2, 2, false)) {
+            meteredPipeline.importAll(List.of(new CourseFile("코스.gpx", new ByteArrayResource(gpx(0, 3)))));
+        }
+
+        assertThat(registry.get("course.parse").timer().count()).isEqualTo(1);
+        assertThat(registry.get("course.parse.points").summary().totalAmount()).isEqualTo(9);
+        assertThat(registry.get("course.construction").timer().count()).isEqualTo(3);
+        assertThat(registry.get("course.construction.coordinates").summary().totalAmount()).isEqualTo(12);
+    }
+
+    private static ObjectProvider<CourseMetrics> noMetrics() {
+        return new StaticListableBeanFactory().getBeanProvider(CourseMetrics.class);
+    }
+
+    private static byte[] gpx(int file, int trackCount) throws IOException {
+        GPX.Builder builder = GPX.builder();
+        IntStream.range(0, trackCount).forEach(track -> builder.addTrack(t -> t
+                .name("코스 " + file + "-" + track)
+                .addSegment(segment -> segment
+                        .addPoint(p -> p.lat(37.5 + file * 0.01).lon(127.0 + track * 0.01))
+                        .addPoint(p -> p.lat(37.501 + file * 0.01).lon(127.0 + track * 0.01))
+                        .addPoint(p -> p.lat(37.5005 + file * 0.01).lon(127.001 + track * 0.01)))));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        GPX.Writer.DEFAULT.write(builder.build(), output);
+        return output.toByteArray();
+    }
+}
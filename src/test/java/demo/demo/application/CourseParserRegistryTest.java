@@ -0,0 +1,57 @@
+package demo.demo.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import demo.demo.domain.CourseParser;
+import demo.demo.infrastructure.parser.FitCourseParser;
+import demo.demo.infrastructure.parser.GeoJsonCourseParser;
+import demo.demo.infrastructure.parser.GpxCourseParser;
+import demo.demo.infrastructure.parser.TcxCourseParser;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CourseParserRegistryTest {
+
+    private final CourseParserRegistry registry = new CourseParserRegistry(List.of(
+            new GpxCourseParser(), new TcxCourseParser(), new GeoJsonCourseParser(), new FitCourseParser()
+    ));
+
+    @Test
+    void 내용으로_판별한_형식을_확장자보다_우선한다() throws IOException {
+        InputStream gpx = stream("<?xml version=\"1.0\"?><gpx version=\"1.1\"></gpx>");
+
+        assertThat(registry.find("tcx", gpx)).containsInstanceOf(GpxCourseParser.class);
+    }
+
+    @Test
+    void 내용으로_판별할_수_없으면_확장자로_찾는다() throws IOException {
+        InputStream unknown = stream(" ".repeat(1024) + "<TrainingCenterDatabase>");
+
+        assertThat(registry.find("tcx", unknown)).containsInstanceOf(TcxCourseParser.class);
+    }
+
+    @Test
+    void 판별한_뒤에도_처음부터_읽을_수_있다() throws IOException {
+        String document = "{\"type\": \"LineString\", \"coordinates\": [[127.0, 37.5], [127.0, 37.501]]}";
+        InputStream geoJson = stream(document);
+
+        CourseParser parser = registry.find("", geoJson).orElseThrow();
+
+        assertThat(parser).isInstanceOf(GeoJsonCourseParser.class);
+        assertThat(parser.parse(geoJson)).hasSize(1);
+    }
+
+    @Test
+    void 지원하지_않는_형식이면_찾지_못한다() throws IOException {
+        assertThat(registry.find("kml", stream("<kml></kml>"))).isEmpty();
+    }
+
+    private static InputStream stream(String content) {
+        return new BufferedInputStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,104 @@
+package demo.demo.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseMetrics;
+import demo.demo.domain.CourseRepository;
+import demo.demo.domain.CourseSearchCondition;
+import demo.demo.domain.Meter;
+import demo.demo.infrastructure.geometry.MappedCourseGeometryStore;
+import demo.demo.infrastructure.metrics.MicrometerCourseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CourseServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private CourseRepository courseRepository;
+    private CourseService courseService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        courseService = new CourseService(
+                courseRepository,
+                new StaticListableBeanFactory().getBeanProvider(CourseGeometryStore.class),
+                mock(CourseCache.class),
+                mock(CourseTileCache.class),
+                new StaticListableBeanFactory().getBeanProvider(CourseMetrics.class)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, CourseSearchCondition.MAX_SIZE + 1, Integer.MAX_VALUE})
+    void 허용_범위를_벗어난_K로는_저장소를_조회하지_않는다(int k) {
+        assertThatThrownBy(() -> courseService.findNearest(new Coordinate(37.5, 127.0), k))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    void 형상_저장소에_있는_코스는_캐시를_거치지_않고_스냅한다() {
+        Course course = storedCourse(1L);
+        CourseCache courseCache = mock(CourseCache.class);
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(course));
+            CourseService storeService = new CourseService(courseRepository, providerOf(CourseGeometryStore.class, store),
+                    courseCache, mock(CourseTileCache.class), new StaticListableBeanFactory().getBeanProvider(CourseMetrics.class));
+            List<Coordinate> targets = List.of(new Coordinate(37.5095, 127.0990), new Coordinate(37.5080, 127.1020));
+
+            assertThat(storeService.snap(1L, targets)).isEqualTo(course.snapAll(targets));
+            assertThat(storeService.coordinates(1L, null)).isEqualTo(course.coordinates());
+        }
+        verifyNoInteractions(courseCache);
+    }
+
+    @Test
+    void 형상_저장소에서_찾아도_반경_검색을_기록한다() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(storedCourse(1L)));
+            CourseService storeService = new CourseService(courseRepository, providerOf(CourseGeometryStore.class, store),
+                    mock(CourseCache.class), mock(CourseTileCache.class),
+                    providerOf(CourseMetrics.class, new MicrometerCourseMetrics(registry)));
+
+            storeService.findAllWithin(new Coordinate(37.5095, 127.0990), new Meter(1000));
+        }
+
+        assertThat(registry.get("course.distance.search").timer().count()).isEqualTo(1);
+        assertThat(registry.get("course.distance.search.matched").summary().totalAmount()).isEqualTo(1);
+        verifyNoInteractions(courseRepository);
+    }
+
+    private static Course storedCourse(long id) {
+        Course course = new Course("석촌호수", List.of(
+                new Coordinate(37.509287, 127.098094),
+                new Coordinate(37.510485, 127.101572),
+                new Coordinate(37.505562, 127.104631)
+        ));
+        ReflectionTestUtils.setField(course, "id", id);
+        return course;
+    }
+
+    private static <T> ObjectProvider<T> providerOf(Class<T> type, T bean) {
+        return new StaticListableBeanFactory(Map.of(type.getSimpleName(), bean)).getBeanProvider(type);
+    }
+}
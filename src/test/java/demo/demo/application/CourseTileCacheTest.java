@@ -0,0 +1,205 @@
+package demo.demo.application;
+
+import static demo.demo.domain.CourseFixture.course;
+import static demo.demo.domain.CourseFixture.withId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseRepository;
+import demo.demo.domain.CourseSaved;
+import demo.demo.domain.EncodedPolyline;
+import demo.demo.domain.Tile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({CourseCache.class, CourseTileCache.class, CourseTileCacheTest.MeterRegistryConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseTileCacheTest {
+
+    private static final Tile JAMSIL = Tile.containing(new Coordinate(37.509287, 127.098094), 14);
+    private static final Tile GWANGALLI = Tile.containing(new Coordinate(35.153170, 129.118666), 14);
+
+    @Autowired
+    private CourseTileCache courseTileCache;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from course");
+    }
+
+    @Test
+    void 타일과_겹치는_코스를_인코딩된_폴리라인으로_만든다() {
+        Course saved = courseRepository.saveAll(List.of(
+                course("석촌호수", 37.509287, 127.098094),
+                course("광안리", 35.153170, 129.118666)
+        )).getFirst();
+
+        CourseTile tile = courseTileCache.find(JAMSIL);
+
+        assertThat(tile.features()).singleElement().satisfies(feature -> {
+            assertThat(feature.courseId()).isEqualTo(saved.id());
+            assertThat(feature.name()).isEqualTo("석촌호수");
+            assertThat(feature.polylines()).isNotEmpty();
+            assertThat(EncodedPolyline.decode(feature.polylines().getFirst())).isNotEmpty();
+        });
+    }
+
+    @Test
+    void 한번_만든_타일은_다시_만들지_않는다() {
+        courseRepository.saveAll(List.of(course("석촌호수", 37.509287, 127.098094)));
+
+        CourseTile first = courseTileCache.find(JAMSIL);
+        CourseTile second = courseTileCache.find(JAMSIL);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void 코스를_저장하면_타일_캐시를_무효화한다() {
+        courseRepository.saveAll(List.of(course("석촌호수", 37.509287, 127.098094)));
+        assertThat(courseTileCache.find(JAMSIL).features()).hasSize(1);
+
+        courseRepository.saveAll(List.of(course("잠실 한강공원", 37.510000, 127.097000)));
+
+        assertThat(courseTileCache.find(JAMSIL).features())
+                .extracting(CourseTile.Feature::name)
+                .containsExactlyInAnyOrder("석촌호수", "잠실 한강공원");
+    }
+
+    @Test
+    void 코스를_저장하면_그_코스와_겹치는_타일만_무효화한다() {
+        courseRepository.saveAll(List.of(
+                course("석촌호수", 37.509287, 127.098094),
+                course("광안리", 35.153170, 129.118666)
+        ));
+        CourseTile jamsil = courseTileCache.find(JAMSIL);
+        CourseTile gwangalli = courseTileCache.find(GWANGALLI);
+
+        courseRepository.saveAll(List.of(course("잠실 한강공원", 37.510000, 127.097000)));
+
+        assertThat(courseTileCache.find(GWANGALLI)).isSameAs(gwangalli);
+        assertThat(courseTileCache.find(JAMSIL)).isNotSameAs(jamsil);
+    }
+
+    @Test
+    void 최소_줌의_타일은_그린다() {
+        courseRepository.saveAll(List.of(course("석촌호수", 37.509287, 127.098094)));
+
+        CourseTile tile = courseTileCache.find(Tile.containing(new Coordinate(37.509287, 127.098094), 10));
+
+        assertThat(tile.features()).extracting(CourseTile.Feature::name)
+                .containsExactly("석촌호수");
+    }
+
+    @Test
+    void 최소_줌보다_낮은_타일은_요청할_수_없다() {
+        assertThatThrownBy(() -> courseTileCache.find(new Tile(9, 436, 198)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 한_픽셀보다_작은_코스는_그리지_않는다() {
+        courseRepository.saveAll(List.of(
+                course("석촌호수", 37.509287, 127.098094),
+                new Course("급수대", List.of(
+                        new Coordinate(37.510000, 127.097000),
+                        new Coordinate(37.510010, 127.097010),
+                        new Coordinate(37.510000, 127.097020)
+                ))
+        ));
+
+        assertThat(courseTileCache.find(JAMSIL).features())
+                .extracting(CourseTile.Feature::name)
+                .containsExactly("석촌호수");
+    }
+
+    @Test
+    void 그리는_중에_코스가_저장되면_그_타일을_캐시하지_않는다() {
+        Course course = withId(course("석촌호수", 37.509287, 127.098094), 1L);
+        CourseGeometryStore store = mock(CourseGeometryStore.class);
+        CourseTileCache tileCache = new CourseTileCache(
+                courseRepository,
+                new StaticListableBeanFactory(Map.of("courseGeometryStore", store)).getBeanProvider(CourseGeometryStore.class),
+                new SimpleMeterRegistry(),
+                16_000_000,
+                500,
+                10
+        );
+        AtomicInteger renders = new AtomicInteger();
+        given(store.findAllIntersecting(any())).willAnswer(invocation -> {
+            if (renders.getAndIncrement() == 0) {
+                tileCache.invalidate(new CourseSaved(course));
+            }
+            return List.of();
+        });
+
+        tileCache.find(JAMSIL);
+        tileCache.find(JAMSIL);
+        tileCache.find(JAMSIL);
+
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void 그리는_중에_겹치지_않는_코스가_저장되면_그_타일을_그대로_캐시한다() {
+        Course course = withId(course("광안리", 35.153170, 129.118666), 1L);
+        CourseGeometryStore store = mock(CourseGeometryStore.class);
+        CourseTileCache tileCache = new CourseTileCache(
+                courseRepository,
+                new StaticListableBeanFactory(Map.of("courseGeometryStore", store)).getBeanProvider(CourseGeometryStore.class),
+                new SimpleMeterRegistry(),
+                16_000_000,
+                500,
+                10
+        );
+        AtomicInteger renders = new AtomicInteger();
+        given(store.findAllIntersecting(any())).willAnswer(invocation -> {
+            if (renders.getAndIncrement() == 0) {
+                tileCache.invalidate(new CourseSaved(course));
+            }
+            return List.of();
+        });
+
+        CourseTile first = tileCache.find(JAMSIL);
+        CourseTile second = tileCache.find(JAMSIL);
+
+        assertThat(renders).hasValue(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package demo.demo.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RunnerTrackerTest {
+
+    private static final long COURSE_ID = 1L;
+
+    private final Course course = new Course("일직선 왕복", straightLine());
+    private CourseCache courseCache;
+    private RunnerTracker runnerTracker;
+
+    @BeforeEach
+    void setUp() {
+        courseCache = mock(CourseCache.class);
+        given(courseCache.findById(COURSE_ID)).willReturn(Optional.of(course));
+        runnerTracker = new RunnerTracker(courseCache, 30, 3, 4, Duration.ofMinutes(30), 10_000);
+    }
+
+    @Test
+    void 코스를_따라_이동하면_지나온_거리가_늘어난다() {
+        UUID sessionId = runnerTracker.start(COURSE_ID).sessionId();
+
+        double previousCovered = -1;
+        for (int i = 0; i < 5; i++) {
+            TrackingStatus status = runnerTracker.update(sessionId, new Coordinate(37.50001, 127.001 + i * 0.0005));
+
+            assertThat(status.progress().covered().value()).isGreaterThan(previousCovered);
+            assertThat(status.offCourse()).isFalse();
+            previousCovered = status.progress().covered().value();
+        }
+        assertThat(runnerTracker.status(sessionId).fixCount()).isEqualTo(5);
+    }
+
+    @Test
+    void 연속으로_코스를_벗어나야_이탈로_판단한다() {
+        UUID sessionId = runnerTracker.start(COURSE_ID).sessionId();
+        runnerTracker.update(sessionId, new Coordinate(37.5, 127.001));
+        Coordinate away = new Coordinate(37.501, 127.002);
+
+        assertThat(runnerTracker.update(sessionId, away).offCourse()).isFalse();
+        assertThat(runnerTracker.update(sessionId, away).offCourse()).isFalse();
+        assertThat(runnerTracker.update(sessionId, away).offCourse()).isTrue();
+        assertThat(runnerTracker.update(sessionId, new Coordinate(37.5, 127.003)).offCourse()).isFalse();
+    }
+
+    @Test
+    void 창_밖으로_건너뛴_위치는_전체_코스에서_다시_찾는다() {
+        UUID sessionId = runnerTracker.start(COURSE_ID).sessionId();
+        runnerTracker.update(sessionId, new Coordinate(37.5, 127.0005));
+
+        TrackingStatus status = runnerTracker.update(sessionId, new Coordinate(37.5, 127.0085));
+
+        assertThat(status.progress().snappedCoordinate().distance().value()).isLessThan(1);
+        assertThat(status.offCourse()).isFalse();
+    }
+
+    @Test
+    void 종료한_세션은_조회할_수_없다() {
+        UUID sessionId = runnerTracker.start(COURSE_ID).sessionId();
+
+        runnerTracker.end(sessionId);
+
+        assertThatThrownBy(() -> runnerTracker.status(sessionId)).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> runnerTracker.end(sessionId)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void 발급하지_않은_세션_아이디는_거부한다() {
+        UUID issued = runnerTracker.start(COURSE_ID).sessionId();
+        UUID foreign = new RunnerTracker(courseCache, 30, 3, 4, Duration.ofMinutes(30), 10_000).start(COURSE_ID).sessionId();
+
+        assertThat(foreign).isNotEqualTo(issued);
+        assertThatThrownBy(() -> runnerTracker.status(foreign)).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> runnerTracker.update(UUID.randomUUID(), new Coordinate(37.5, 127.0)))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> runnerTracker.end(foreign)).isInstanceOf(NoSuchElementException.class);
+        assertThat(runnerTracker.status(issued).fixCount()).isZero();
+    }
+
+    @Test
+    void 없는_코스는_추적할_수_없다() {
+        assertThatThrownBy(() -> runnerTracker.start(2L)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void 코스_아이디가_없으면_예외가_발생한다() {
+        assertThatThrownBy(() -> runnerTracker.start(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 세션은_코스를_붙잡지_않고_캐시에서_다시_찾는다() {
+        UUID sessionId = runnerTracker.start(COURSE_ID).sessionId();
+        given(courseCache.findById(COURSE_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> runnerTracker.update(sessionId, new Coordinate(37.5, 127.0)))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_갱신해도_위치를_빠뜨리지_않는다() {
+        List<UUID> sessionIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            sessionIds.add(runnerTracker.start(COURSE_ID).sessionId());
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (UUID sessionId : sessionIds) {
+                for (int writer = 0; writer < 4; writer++) {
+                    executor.execute(() -> {
+                        for (int i = 0; i < 250; i++) {
+                            runnerTracker.update(sessionId, new Coordinate(37.5, 127.0 + (i % 10) * 0.001));
+                        }
+                    });
+                }
+            }
+        }
+
+        assertThat(sessionIds).allSatisfy(sessionId ->
+                assertThat(runnerTracker.status(sessionId).fixCount()).isEqualTo(1000));
+        assertThat(runnerTracker.activeSessions()).isEqualTo(100);
+    }
+
+    private static List<Coordinate> straightLine() {
+        List<Coordinate> coordinates = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            coordinates.add(new Coordinate(37.5, 127.0 + i * 0.001));
+        }
+        for (int i = 10; i >= 0; i--) {
+            coordinates.add(new Coordinate(37.5001, 127.0 + i * 0.001));
+        }
+        return coordinates;
+    }
+}
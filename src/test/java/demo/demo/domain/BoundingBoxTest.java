@@ -0,0 +1,104 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class BoundingBoxTest {
+
+    @Test
+    void 좌표들을_모두_감싸는_영역을_계산한다() {
+        var boundingBox = BoundingBox.of(Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.6, 126.9),
+                new Coordinate(37.4, 127.1)
+        )));
+
+        assertThat(boundingBox).isEqualTo(new BoundingBox(37.4, 37.6, 126.9, 127.1));
+    }
+
+    @Test
+    void 내림_오차만큼_넓힌_영역은_경계_바로_밖의_영역과도_겹친다() {
+        var area = new BoundingBox(37.5, 37.51, 127.0, 127.01);
+        var justOutside = new BoundingBox(37.510001, 37.52, 127.010001, 127.02);
+
+        assertThat(area.intersects(justOutside)).isFalse();
+        assertThat(area.withFloorMargin().intersects(justOutside)).isTrue();
+    }
+
+    @Nested
+    class 반경_영역_테스트 {
+
+        @ParameterizedTest
+        @CsvSource({
+                "0, 1000",
+                "90, 1000",
+                "180, 1000",
+                "270, 1000",
+                "45, 5000",
+                "135, 5000"
+        })
+        void 반경_안의_좌표는_모두_영역_안에_있다(double bearing, double radius) {
+            var center = new Coordinate(37.514647, 127.086592);
+            var boundingBox = BoundingBox.around(center, new Meter(radius));
+
+            var destination = destinationOf(center, bearing, radius * 0.999);
+
+            assertThat(boundingBox.contains(destination)).isTrue();
+        }
+
+        @Test
+        void 반경_밖의_좌표는_영역_밖에_있다() {
+            var center = new Coordinate(37.514647, 127.086592);
+            var boundingBox = BoundingBox.around(center, new Meter(1000));
+
+            assertThat(boundingBox.contains(destinationOf(center, 0, 1100))).isFalse();
+            assertThat(boundingBox.contains(destinationOf(center, 90, 1100))).isFalse();
+        }
+
+        @Test
+        void 극점을_넘는_반경이면_모든_경도를_포함한다() {
+            var boundingBox = BoundingBox.around(new Coordinate(89.99, 0), new Meter(5000));
+
+            assertThat(boundingBox.minLongitude()).isEqualTo(-180);
+            assertThat(boundingBox.maxLongitude()).isEqualTo(180);
+            assertThat(boundingBox.maxLatitude()).isEqualTo(90);
+        }
+
+        @Test
+        void 날짜변경선을_넘는_반경이면_모든_경도를_포함한다() {
+            var boundingBox = BoundingBox.around(new Coordinate(0, 179.999), new Meter(5000));
+
+            assertThat(boundingBox.minLongitude()).isEqualTo(-180);
+            assertThat(boundingBox.maxLongitude()).isEqualTo(180);
+        }
+
+        private Coordinate destinationOf(Coordinate start, double bearingDegree, double distance) {
+            double angularDistance = distance / 6371000.0;
+            double bearing = Math.toRadians(bearingDegree);
+            double latitude = Math.toRadians(start.latitude());
+            double longitude = Math.toRadians(start.longitude());
+
+            double destinationLatitude = Math.asin(Math.sin(latitude) * Math.cos(angularDistance)
+                    + Math.cos(latitude) * Math.sin(angularDistance) * Math.cos(bearing));
+            double destinationLongitude = longitude + Math.atan2(
+                    Math.sin(bearing) * Math.sin(angularDistance) * Math.cos(latitude),
+                    Math.cos(angularDistance) - Math.sin(latitude) * Math.sin(destinationLatitude));
+            return new Coordinate(Math.toDegrees(destinationLatitude), Math.toDegrees(destinationLongitude));
+        }
+    }
+
+    @Test
+    void 겹치는_영역인지_판단한다() {
+        var boundingBox = new BoundingBox(0, 10, 0, 10);
+
+        assertThat(boundingBox.intersects(new BoundingBox(5, 15, 5, 15))).isTrue();
+        assertThat(boundingBox.intersects(new BoundingBox(10, 15, 10, 15))).isTrue();
+        assertThat(boundingBox.intersects(new BoundingBox(11, 15, 0, 10))).isFalse();
+        assertThat(boundingBox.intersects(new BoundingBox(0, 10, -5, -1))).isFalse();
+    }
+}
@@ -4,10 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Random;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class CoordinateTest {
 
@@ -36,6 +38,13 @@ class CoordinateTest {
                     .isInstanceOf(IllegalArgumentException.class);
         }
 
+        @ParameterizedTest
+        @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+        void 고도가_유한하지_않으면_예외가_발생한다(double elevation) {
+            assertThatThrownBy(() -> new Coordinate(37.5, 127.0, elevation))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
         @Test
         void 생성하면_위도와_경도가_소수점_이하_6자리까지만_남는다() {
             Coordinate coordinate = new Coordinate(80.123456789, 100.123456789);
@@ -43,6 +52,18 @@ class CoordinateTest {
             assertThat(coordinate.latitude()).isEqualTo(80.123456);
             assertThat(coordinate.longitude()).isEqualTo(100.123456);
         }
+
+        @Test
+        void 생성된_좌표의_위도와_경도로_다시_생성해도_값이_바뀌지_않는다() {
+            Random random = new Random(42);
+
+            for (int i = 0; i < 100_000; i++) {
+                var coordinate = new Coordinate(random.nextDouble(-90, 90), random.nextDouble(-180, 180));
+                var recreated = new Coordinate(coordinate.latitude(), coordinate.longitude());
+
+                assertThat(recreated).isEqualTo(coordinate);
+            }
+        }
     }
 
     @Nested
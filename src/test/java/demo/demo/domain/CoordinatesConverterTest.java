@@ -0,0 +1,68 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CoordinatesConverterTest {
+
+    private final CoordinatesConverter converter = new CoordinatesConverter();
+
+    @Test
+    void 변환한_값을_다시_변환하면_같은_좌표가_된다() {
+        var coordinates = randomTrack(1_000);
+
+        byte[] data = converter.convertToDatabaseColumn(coordinates);
+        var restored = converter.convertToEntityAttribute(data);
+
+        assertThat(restored).isEqualTo(coordinates);
+        assertThat(restored.asList()).isEqualTo(coordinates.asList());
+    }
+
+    @Test
+    void 인접한_좌표는_좌표당_수_바이트로_저장된다() {
+        var coordinates = randomTrack(10_000);
+
+        byte[] data = converter.convertToDatabaseColumn(coordinates);
+
+        assertThat(data.length).isLessThan(coordinates.size() * 8);
+    }
+
+    @Test
+    void 고도는_밀리미터_단위까지_저장된다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0, 12.3456),
+                new Coordinate(37.5, 127.0, -3.2)
+        ));
+
+        var restored = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(coordinates));
+
+        assertThat(restored.elevation(0)).isEqualTo(12.346);
+        assertThat(restored.elevation(1)).isEqualTo(-3.2);
+    }
+
+    @Test
+    void 알_수_없는_형식이면_예외가_발생한다() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[]{9, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Coordinates randomTrack(int size) {
+        Random random = new Random(7);
+        List<Coordinate> coordinates = new ArrayList<>();
+        double latitude = 37.5;
+        double longitude = 127.0;
+        int elevationDecimeter = 200;
+        for (int i = 0; i < size; i++) {
+            latitude += random.nextDouble(-0.0002, 0.0002);
+            longitude += random.nextDouble(-0.0002, 0.0002);
+            elevationDecimeter += random.nextInt(-5, 6);
+            coordinates.add(new Coordinate(latitude, longitude, elevationDecimeter / 10.0));
+        }
+        return Coordinates.from(coordinates);
+    }
+}
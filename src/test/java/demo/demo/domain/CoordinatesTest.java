@@ -0,0 +1,69 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CoordinatesTest {
+
+    @Test
+    void 좌표_목록으로_생성한다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0, 10),
+                new Coordinate(37.6, 127.1, 20)
+        ));
+
+        assertThat(coordinates.size()).isEqualTo(2);
+        assertThat(coordinates.latitude(1)).isEqualTo(37.6);
+        assertThat(coordinates.longitude(1)).isEqualTo(127.1);
+        assertThat(coordinates.elevation(1)).isEqualTo(20);
+        assertThat(coordinates.asList()).containsExactly(
+                new Coordinate(37.5, 127.0, 10),
+                new Coordinate(37.6, 127.1, 20)
+        );
+    }
+
+    @Test
+    void 시작점과_끝점이_다르면_시작점을_끝에_추가하여_닫는다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.6, 127.1)
+        ));
+
+        var closed = coordinates.close();
+
+        assertThat(closed.isClosed()).isTrue();
+        assertThat(closed.asList()).containsExactly(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.6, 127.1),
+                new Coordinate(37.5, 127.0)
+        );
+    }
+
+    @Test
+    void 이미_닫혀있으면_그대로_반환한다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.6, 127.1),
+                new Coordinate(37.5, 127.0)
+        ));
+
+        assertThat(coordinates.close()).isSameAs(coordinates);
+    }
+
+    @Test
+    void 순서를_뒤집는다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(1, 1, 1),
+                new Coordinate(2, 2, 2),
+                new Coordinate(3, 3, 3)
+        ));
+
+        assertThat(coordinates.reverse().asList()).containsExactly(
+                new Coordinate(3, 3, 3),
+                new Coordinate(2, 2, 2),
+                new Coordinate(1, 1, 1)
+        );
+    }
+}
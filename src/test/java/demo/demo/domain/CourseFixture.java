@@ -0,0 +1,33 @@
+package demo.demo.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public final class CourseFixture {
+
+    private CourseFixture() {
+    }
+
+    public static Course course(String name, double latitude, double longitude) {
+        return new Course(name, List.of(
+                new Coordinate(latitude, longitude),
+                new Coordinate(latitude + 0.001, longitude + 0.001),
+                new Coordinate(latitude - 0.001, longitude + 0.002)
+        ));
+    }
+
+    public static Course loop(long id, double latitude, double longitude, int pointCount) {
+        List<Coordinate> coordinates = new ArrayList<>();
+        for (int i = 0; i < pointCount; i++) {
+            double angle = 2 * Math.PI * i / pointCount;
+            coordinates.add(new Coordinate(latitude + 0.01 * Math.sin(angle), longitude + 0.01 * Math.cos(angle), i % 50 / 10.0));
+        }
+        return withId(new Course("코스 " + id, coordinates), id);
+    }
+
+    public static Course withId(Course course, long id) {
+        ReflectionTestUtils.setField(course, "id", id);
+        return course;
+    }
+}
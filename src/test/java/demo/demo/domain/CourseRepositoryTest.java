@@ -1,12 +1,21 @@
 package demo.demo.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 @DataJpaTest
 class CourseRepositoryTest {
@@ -14,6 +23,9 @@ class CourseRepositoryTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @ParameterizedTest
     @CsvSource({
             "800, 3",
@@ -58,8 +70,260 @@ class CourseRepositoryTest {
         Coordinate target = new Coordinate(37.514647, 127.086592);
         courseRepository.saveAll(List.of(course1, course2, course3));
 
-        List<Course> courses = courseRepository.findAllHasDistanceWithin(target, new Meter(distance));
+        List<NearCourse> courses = courseRepository.findAllHasDistanceWithin(target, new Meter(distance));
 
         assertThat(courses).hasSize(expectedSize);
     }
+
+    @Test
+    void 검색_영역과_겹치는_코스만_후보로_조회한다() {
+        Course near = new Course("잠실 종합운동장", List.of(
+                new Coordinate(37.517802, 127.069576),
+                new Coordinate(37.510638, 127.070661),
+                new Coordinate(37.511926, 127.078170),
+                new Coordinate(37.517802, 127.069576)
+        ));
+        Course far = new Course("부산 광안리", List.of(
+                new Coordinate(35.153170, 129.118666),
+                new Coordinate(35.155930, 129.121350),
+                new Coordinate(35.153170, 129.118666)
+        ));
+        courseRepository.saveAll(List.of(near, far));
+
+        List<CourseBounds> candidates = courseRepository.findAllBoundsIntersecting(
+                BoundingBox.around(new Coordinate(37.514647, 127.086592), new Meter(2000)));
+
+        assertThat(candidates).extracting(CourseBounds::id).containsExactly(near.id());
+    }
+
+    @Test
+    void 반경_검색은_검색_영역과_겹치는_코스의_형상만_불러온다() {
+        Course inside = new Course("석촌호수", List.of(
+                new Coordinate(37.5000, 127.0000),
+                new Coordinate(37.5010, 127.0000),
+                new Coordinate(37.5010, 127.0010)
+        ));
+        Course corner = new Course("모서리", List.of(
+                new Coordinate(37.5080, 127.0100),
+                new Coordinate(37.5085, 127.0100),
+                new Coordinate(37.5085, 127.0105)
+        ));
+        Course far = new Course("부산 광안리", List.of(
+                new Coordinate(35.153170, 129.118666),
+                new Coordinate(35.155930, 129.121350),
+                new Coordinate(35.154000, 129.119000)
+        ));
+        courseRepository.saveAll(List.of(inside, corner, far));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<NearCourse> courses = courseRepository.findAllHasDistanceWithin(new Coordinate(37.5, 127.0), new Meter(1000));
+
+        assertThat(courses).extracting(near -> near.course().name()).containsExactly("석촌호수");
+        assertThat(courses.getFirst().distance().value()).isZero();
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 저장된_코스를_불러오면_계산된_거리와_난이도가_유지된다() {
+        Course course = new Course("잠실제일교회 둘레길", RoadType.트레일, List.of(
+                new Coordinate(37.517396, 127.092439),
+                new Coordinate(37.512785, 127.094059),
+                new Coordinate(37.513460, 127.097520),
+                new Coordinate(37.517396, 127.092439)
+        ));
+        courseRepository.saveAll(List.of(course));
+        entityManager.flush();
+        entityManager.clear();
+
+        Course found = courseRepository.findById(course.id()).orElseThrow();
+
+        assertThat(found).isNotSameAs(course);
+        assertThat(found.length()).isEqualTo(course.length());
+        assertThat(found.difficulty()).isEqualTo(course.difficulty());
+        assertThat(found.boundingBox()).isEqualTo(course.boundingBox());
+        assertThat(found.elevationProfile()).isEqualTo(course.elevationProfile());
+        assertThat(found.lengthUntil(2)).isEqualTo(course.lengthUntil(2));
+        assertThat(found.coordinates()).isEqualTo(course.coordinates());
+    }
+
+    @Nested
+    class 가장_가까운_코스_검색_테스트 {
+
+        @Test
+        void 가까운_순서대로_K개의_코스를_찾는다() {
+            Random random = new Random(3);
+            List<Course> courses = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                double latitude = 37.0 + random.nextDouble() * 1.5;
+                double longitude = 126.5 + random.nextDouble() * 1.5;
+                courses.add(new Course("코스 " + i, List.of(
+                        new Coordinate(latitude, longitude),
+                        new Coordinate(latitude + random.nextDouble() * 0.02, longitude + random.nextDouble() * 0.02),
+                        new Coordinate(latitude - random.nextDouble() * 0.02, longitude + random.nextDouble() * 0.02)
+                )));
+            }
+            courseRepository.saveAll(courses);
+            Coordinate target = new Coordinate(37.514647, 127.086592);
+
+            List<NearCourse> nearest = courseRepository.findNearest(target, 20);
+
+            List<Course> expected = courses.stream()
+                    .sorted(Comparator.comparingDouble((Course course) -> course.distanceFrom(target).value())
+                            .thenComparing(Course::id))
+                    .limit(20)
+                    .toList();
+            assertAll(
+                    () -> assertThat(nearest).extracting(near -> near.course().id())
+                            .containsExactlyElementsOf(expected.stream().map(Course::id).toList()),
+                    () -> assertThat(nearest).extracting(NearCourse::distance)
+                            .containsExactlyElementsOf(expected.stream().map(course -> course.distanceFrom(target)).toList())
+            );
+        }
+
+        @Test
+        void 코스가_K개보다_적으면_모든_코스를_찾는다() {
+            Course seoul = new Course("잠실 종합운동장", List.of(
+                    new Coordinate(37.517802, 127.069576),
+                    new Coordinate(37.510638, 127.070661),
+                    new Coordinate(37.511926, 127.078170)
+            ));
+            Course busan = new Course("부산 광안리", List.of(
+                    new Coordinate(35.153170, 129.118666),
+                    new Coordinate(35.155930, 129.121350),
+                    new Coordinate(35.154000, 129.119000)
+            ));
+            courseRepository.saveAll(List.of(busan, seoul));
+
+            List<NearCourse> nearest = courseRepository.findNearest(new Coordinate(37.514647, 127.086592), 5);
+
+            assertThat(nearest).extracting(near -> near.course().name()).containsExactly("잠실 종합운동장", "부산 광안리");
+        }
+
+        @Test
+        void K가_1보다_작으면_예외가_발생한다() {
+            assertThatThrownBy(() -> courseRepository.findNearest(new Coordinate(37.5, 127.0), 0))
+                    .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void K가_최대_개수보다_크면_예외가_발생한다() {
+            assertThatThrownBy(() -> courseRepository.findNearest(new Coordinate(37.5, 127.0), CourseSearchCondition.MAX_SIZE + 1))
+                    .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 조건_검색_테스트 {
+
+        @Test
+        void 커서를_따라가면_모든_코스를_아이디_순서로_한번씩_찾는다() {
+            List<Course> saved = courseRepository.saveAll(List.of(
+                    square("코스 1", RoadType.보도, 37.50, 127.00, 0.001),
+                    square("코스 2", RoadType.트랙, 37.51, 127.00, 0.001),
+                    square("코스 3", RoadType.트레일, 37.52, 127.00, 0.001),
+                    square("코스 4", RoadType.보도, 37.53, 127.00, 0.001),
+                    square("코스 5", RoadType.보도, 37.54, 127.00, 0.001)
+            ));
+
+            List<Long> found = new ArrayList<>();
+            Long cursor = null;
+            int pages = 0;
+            do {
+                CourseSearchPage page = courseRepository.search(condition(null, null, null, cursor, 2));
+                page.courses().forEach(summary -> found.add(summary.id()));
+                cursor = page.nextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertThat(found).containsExactlyElementsOf(saved.stream().map(Course::id).sorted().toList());
+            assertThat(pages).isEqualTo(3);
+        }
+
+        @Test
+        void 도로_종류와_길이_범위로_거른다() {
+            courseRepository.saveAll(List.of(
+                    square("짧은 트랙", RoadType.트랙, 37.50, 127.00, 0.001),
+                    square("긴 트랙", RoadType.트랙, 37.51, 127.00, 0.01),
+                    square("긴 보도", RoadType.보도, 37.52, 127.00, 0.01)
+            ));
+
+            CourseSearchPage page = courseRepository.search(new CourseSearchCondition(
+                    null, null, RoadType.트랙, new Meter(1000), Meter.max(), 1, 10, null, 10
+            ));
+
+            assertThat(page.courses()).extracting(CourseSummary::name).containsExactly("긴 트랙");
+            assertThat(page.hasNext()).isFalse();
+        }
+
+        @Test
+        void 난이도_범위로_거른다() {
+            courseRepository.saveAll(List.of(
+                    square("쉬운 코스", RoadType.보도, 37.50, 127.00, 0.001),
+                    square("어려운 코스", RoadType.보도, 37.51, 127.00, 0.04)
+            ));
+
+            CourseSearchPage page = courseRepository.search(new CourseSearchCondition(
+                    null, null, null, Meter.zero(), Meter.max(), 2, 10, null, 10
+            ));
+
+            assertThat(page.courses()).extracting(CourseSummary::name).containsExactly("어려운 코스");
+        }
+
+        @Test
+        void 반경_밖의_후보를_건너뛰고_페이지를_채운다() {
+            Coordinate center = new Coordinate(37.5, 127.0);
+            courseRepository.saveAll(List.of(
+                    square("안쪽 1", RoadType.보도, 37.5, 127.0, 0.001),
+                    square("바깥", RoadType.보도, 37.6, 127.0, 0.001),
+                    square("안쪽 2", RoadType.보도, 37.501, 127.001, 0.001),
+                    square("안쪽 3", RoadType.보도, 37.499, 126.999, 0.001)
+            ));
+
+            CourseSearchPage first = courseRepository.search(condition(center, new Meter(1000), null, null, 2));
+            CourseSearchPage second = courseRepository.search(condition(center, new Meter(1000), null, first.nextCursor(), 2));
+
+            assertThat(first.courses()).extracting(CourseSummary::name).containsExactly("안쪽 1", "안쪽 2");
+            assertThat(second.courses()).extracting(CourseSummary::name).containsExactly("안쪽 3");
+            assertThat(second.hasNext()).isFalse();
+        }
+
+        @Test
+        void 반경_조건이_없으면_코스_형상을_불러오지_않는다() {
+            courseRepository.saveAll(List.of(
+                    square("코스 1", RoadType.보도, 37.50, 127.00, 0.001),
+                    square("코스 2", RoadType.보도, 37.51, 127.00, 0.001)
+            ));
+            entityManager.flush();
+            entityManager.clear();
+
+            CourseSearchPage page = courseRepository.search(condition(null, null, null, null, 10));
+
+            assertThat(page.courses()).extracting(CourseSummary::name).containsExactly("코스 1", "코스 2");
+            assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        }
+
+        @Test
+        void 잘못된_조건이면_예외가_발생한다() {
+            assertThatThrownBy(() -> condition(null, null, null, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> condition(new Coordinate(37.5, 127.0), null, null, null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CourseSearchCondition(null, null, null, new Meter(10), new Meter(5), 1, 10, null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private static CourseSearchCondition condition(Coordinate center, Meter radius, RoadType roadType, Long cursor, int size) {
+            return new CourseSearchCondition(center, radius, roadType, Meter.zero(), Meter.max(), 1, 10, cursor, size);
+        }
+
+        private static Course square(String name, RoadType roadType, double latitude, double longitude, double half) {
+            return new Course(name, roadType, List.of(
+                    new Coordinate(latitude - half, longitude - half),
+                    new Coordinate(latitude - half, longitude + half),
+                    new Coordinate(latitude + half, longitude + half),
+                    new Coordinate(latitude + half, longitude - half)
+            ));
+        }
+    }
 }
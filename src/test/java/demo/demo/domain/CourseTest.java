@@ -3,8 +3,12 @@ package demo.demo.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class CourseTest {
 
@@ -129,6 +134,177 @@ class CourseTest {
         assertThat((int) totalLength.value()).isEqualTo(2573);
     }
 
+    @Test
+    void 코스_시작점부터_각_좌표까지의_누적_거리를_조회한다() {
+        var course = new Course("직선왕복코스", List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.5, 127.001),
+                new Coordinate(37.5, 127.002),
+                new Coordinate(37.5, 127.0)
+        ));
+
+        assertThat(course.lengthUntil(0).value()).isZero();
+        assertThat((int) course.lengthUntil(1).value()).isEqualTo(88);
+        assertThat((int) course.lengthUntil(2).value()).isEqualTo(176);
+        assertThat(course.lengthUntil(3)).isEqualTo(course.length());
+    }
+
+    @Nested
+    class 진행_거리_테스트 {
+
+        private final Course course = new Course("삼각형코스", List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.5, 127.002),
+                new Coordinate(37.502, 127.002)
+        ));
+
+        @Test
+        void 코스_위의_위치까지_지나온_거리와_남은_거리를_계산한다() {
+            var coordinates = course.coordinates();
+            var position = coordinates.get(0).moveTo(coordinates.get(1), 0.5);
+
+            var progress = course.progressOf(position);
+
+            assertThat(progress.covered().value()).isCloseTo(course.lengthUntil(1).value() / 2, within(0.5));
+            assertThat(progress.covered().value() + progress.remaining().value())
+                    .isCloseTo(course.length().value(), within(1e-9));
+            assertThat(course.remainingLengthFrom(position)).isEqualTo(progress.remaining());
+        }
+
+        @Test
+        void 지나온_거리는_스냅한_구간의_누적_거리에서_시작한다() {
+            var snappedCoordinate = course.snap(new Coordinate(37.5015, 127.0025));
+            var segmentStart = course.coordinates().get(snappedCoordinate.segment());
+
+            assertThat(course.lengthAlong(snappedCoordinate).value()).isCloseTo(
+                    course.lengthUntil(snappedCoordinate.segment()).value()
+                            + Haversine.distance(segmentStart, snappedCoordinate.coordinate()),
+                    within(1e-9));
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {0.1, 0.25, 0.5, 0.75, 0.9})
+        void 거리에_해당하는_위치를_보간한다(double ratio) {
+            var distance = course.length().value() * ratio;
+
+            var coordinate = course.coordinateAt(new Meter(distance));
+
+            assertThat(course.progressOf(coordinate).covered().value()).isCloseTo(distance, within(0.2));
+        }
+
+        @Test
+        void 코스_길이를_벗어난_거리는_끝점으로_제한한다() {
+            assertThat(course.coordinateAt(new Meter(-10))).isEqualTo(course.coordinates().getFirst());
+            assertThat(course.coordinateAt(new Meter(10_000))).isEqualTo(course.coordinates().getLast());
+        }
+
+        @Test
+        void 저장된_길이가_다시_계산한_길이보다_길어도_끝점으로_제한한다() {
+            double storedLength = course.length().value() + 0.001;
+            ReflectionTestUtils.setField(course, "length", storedLength);
+
+            assertThat(course.coordinateAt(new Meter(storedLength))).isEqualTo(course.coordinates().getLast());
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+        void 유한하지_않은_거리는_예외가_발생한다(double distance) {
+            assertThatThrownBy(() -> course.coordinateAt(new Meter(distance)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 타일_자르기_테스트 {
+
+        private final Course course = new Course("긴 직사각형", denseRectangle());
+
+        @Test
+        void 타일과_겹치는_구간만_남긴다() {
+            Tile tile = Tile.containing(new Coordinate(37.5005, 127.05), 14);
+            BoundingBox area = tile.bufferedBoundingBox();
+
+            List<List<Coordinate>> parts = course.clipTo(tile);
+
+            assertThat(parts).hasSize(2);
+            assertThat(parts).allSatisfy(part -> assertThat(part).allSatisfy(coordinate ->
+                    assertThat(coordinate.longitude()).isBetween(area.minLongitude() - 0.001, area.maxLongitude() + 0.001)));
+        }
+
+        @Test
+        void 타일_해상도보다_작은_굴곡은_단순화한다() {
+            Tile tile = Tile.containing(new Coordinate(37.5005, 127.05), 14);
+
+            List<List<Coordinate>> parts = course.clipTo(tile);
+
+            assertThat(parts).allSatisfy(part -> assertThat(part).hasSize(2));
+        }
+
+        @Test
+        void 겹치지_않는_타일은_빈_목록을_반환한다() {
+            Tile tile = Tile.containing(new Coordinate(35.1, 129.0), 14);
+
+            assertThat(course.clipTo(tile)).isEmpty();
+        }
+
+        private static List<Coordinate> denseRectangle() {
+            List<Coordinate> coordinates = new ArrayList<>();
+            for (int i = 0; i <= 100; i++) {
+                coordinates.add(new Coordinate(37.5, 127.0 + i * 0.001));
+            }
+            for (int i = 100; i >= 0; i--) {
+                coordinates.add(new Coordinate(37.501, 127.0 + i * 0.001));
+            }
+            return coordinates;
+        }
+    }
+
+    @Nested
+    class 이전_구간_근처_매칭_테스트 {
+
+        private final Course course = new Course("왕복코스", outAndBack());
+
+        @Test
+        void 이전_구간_근처에서_매칭하면_더_가까운_반대편_구간으로_건너뛰지_않는다() {
+            var returnSegment = course.snap(new Coordinate(37.5001, 127.005)).segment();
+            var fix = new Coordinate(37.50004, 127.0052);
+
+            var progress = course.progressNear(fix, returnSegment, 2);
+
+            assertThat(course.coordinates().get(progress.snappedCoordinate().segment()).latitude()).isEqualTo(37.5001);
+            assertThat(course.snap(fix).coordinate().latitude()).isEqualTo(37.5);
+        }
+
+        @Test
+        void 창이_코스_전체를_덮으면_전체_스냅과_같은_거리를_찾는다() {
+            var fix = new Coordinate(37.4999, 127.0033);
+
+            var progress = course.progressNear(fix, 0, course.coordinates().size());
+
+            assertThat(progress.snappedCoordinate().distance()).isEqualTo(course.snap(fix).distance());
+        }
+
+        @Test
+        void 범위를_벗어난_구간에서는_매칭할_수_없다() {
+            var fix = new Coordinate(37.5, 127.0);
+
+            assertThatThrownBy(() -> course.progressNear(fix, course.coordinates().size(), 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private static List<Coordinate> outAndBack() {
+            var coordinates = new ArrayList<Coordinate>();
+            for (int i = 0; i <= 10; i++) {
+                coordinates.add(new Coordinate(37.5, 127.0 + i * 0.001));
+            }
+            for (int i = 10; i >= 0; i--) {
+                coordinates.add(new Coordinate(37.5001, 127.0 + i * 0.001));
+            }
+            return coordinates;
+        }
+    }
+
+
     @ParameterizedTest
     @CsvSource({
             "37.517712, 126.995012, 142",
@@ -250,6 +426,88 @@ class CourseTest {
         assertThat(minDistanceCoordinate).isEqualTo(expectedCoordinate);
     }
 
+    @Nested
+    class 여러_좌표_스냅_테스트 {
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 20_000})
+        void 여러_좌표를_한번에_스냅한_결과는_하나씩_스냅한_결과와_같다(int traceSize) {
+            var course = new Course("석촌호수 한바퀴", circle(37.509, 127.101, 0.003, 2_000));
+            var trace = noisyTrace(course, traceSize);
+
+            var snappedCoordinates = course.snapAll(trace);
+
+            assertThat(snappedCoordinates).hasSize(traceSize);
+            for (int i = 0; i < traceSize; i += 97) {
+                assertThat(snappedCoordinates.get(i)).isEqualTo(course.snap(trace.get(i)));
+            }
+        }
+
+        @Test
+        void 스냅한_좌표와_거리를_반환한다() {
+            var course = new Course("왕복코스", List.of(
+                    new Coordinate(0, 0),
+                    new Coordinate(10, 10.0),
+                    new Coordinate(0, 0)
+            ));
+
+            var snappedCoordinates = course.snapAll(List.of(new Coordinate(10, 0), new Coordinate(20, 20)));
+
+            assertThat(snappedCoordinates).extracting(SnappedCoordinate::coordinate)
+                    .containsExactly(new Coordinate(5, 5), new Coordinate(10, 10));
+            assertThat(snappedCoordinates.get(1).distance())
+                    .isEqualTo(course.distanceFrom(new Coordinate(20, 20)));
+        }
+
+        private static List<Coordinate> circle(double latitude, double longitude, double radius, int size) {
+            return IntStream.range(0, size)
+                    .mapToObj(i -> 2 * Math.PI * i / size)
+                    .map(angle -> new Coordinate(latitude + Math.sin(angle) * radius, longitude + Math.cos(angle) * radius))
+                    .toList();
+        }
+
+        private static List<Coordinate> noisyTrace(Course course, int size) {
+            var random = new Random(1);
+            var coordinates = course.coordinates();
+            return IntStream.range(0, size)
+                    .mapToObj(i -> coordinates.get((int) ((long) i * (coordinates.size() - 1) / size)))
+                    .map(c -> new Coordinate(
+                            c.latitude() + random.nextGaussian() * 0.00005,
+                            c.longitude() + random.nextGaussian() * 0.00005))
+                    .toList();
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "10, 개략",
+            "12, 보통",
+            "14, 상세",
+            "16, 상세"
+    })
+    void 줌_레벨에_맞는_단순화_단계의_좌표를_반환한다(int zoom, SimplificationLevel level) {
+        var course = new Course("석촌호수 한바퀴", IntStream.range(0, 500)
+                .mapToObj(i -> 2 * Math.PI * i / 500)
+                .map(angle -> new Coordinate(37.509 + Math.sin(angle) * 0.003, 127.101 + Math.cos(angle) * 0.003))
+                .toList());
+
+        var coordinates = course.coordinatesForZoom(zoom);
+
+        assertThat(coordinates).isEqualTo(course.simplifiedCoordinates(level));
+        assertThat(coordinates.size()).isLessThan(course.coordinates().size());
+    }
+
+    @Test
+    void 가장_상세한_단계보다_확대하면_원본_좌표를_반환한다() {
+        var course = new Course("직선코스", List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.5, 127.001),
+                new Coordinate(37.5, 127.0)
+        ));
+
+        assertThat(course.coordinatesForZoom(18)).isEqualTo(course.coordinates());
+    }
+
     @ParameterizedTest
     @MethodSource("createArguments")
     void 코스의_난이도를_계산한다(List<Coordinate> coordinates, RoadType roadType, double expectedDifficulty) {
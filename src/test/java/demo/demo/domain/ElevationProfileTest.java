@@ -0,0 +1,97 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+import org.junit.jupiter.api.Test;
+
+class ElevationProfileTest {
+
+    private static final int POINT_COUNT = 400;
+
+    @Test
+    void 평지_코스는_오르내림과_경사가_없다() {
+        Course course = loop(i -> 12.0);
+
+        ElevationProfile profile = course.elevationProfile();
+
+        assertThat(profile.ascent()).isZero();
+        assertThat(profile.descent()).isZero();
+        assertThat(profile.maxGrade()).isZero();
+        assertThat(profile.samples()).containsOnly(12.0);
+    }
+
+    @Test
+    void 언덕을_한번_넘는_코스의_누적_상승과_하강을_계산한다() {
+        Course course = loop(i -> 50 * (1 - Math.cos(2 * Math.PI * i / POINT_COUNT)));
+
+        ElevationProfile profile = course.elevationProfile();
+
+        assertThat(profile.ascent()).isCloseTo(100, within(3.0));
+        assertThat(profile.descent()).isCloseTo(100, within(3.0));
+        double eastWestRadius = Math.toRadians(0.01) * Haversine.EARTH_RADIUS_METERS * Math.cos(Math.toRadians(37.5));
+        double maxGrade = 50 / eastWestRadius;
+        assertThat(profile.maxGrade()).isCloseTo(maxGrade, within(maxGrade * 0.05));
+    }
+
+    @Test
+    void 짧은_간격의_고도_잡음은_상승으로_누적하지_않는다() {
+        Course course = loop(i -> i % 2 == 0 ? 10.4 : 9.6);
+
+        ElevationProfile profile = course.elevationProfile();
+
+        assertThat(profile.ascent()).isLessThan(1);
+        assertThat(profile.descent()).isLessThan(1);
+    }
+
+    @Test
+    void 고도_표본은_코스_전체에_같은_간격으로_놓인다() {
+        Course course = loop(i -> i);
+
+        ElevationProfile profile = course.elevationProfile();
+
+        assertThat(profile.samples()).hasSize(ElevationProfile.MAX_SAMPLES);
+        assertThat(profile.distanceAt(ElevationProfile.MAX_SAMPLES - 1))
+                .isCloseTo(course.length().value(), within(1e-6));
+        assertThat(profile.samples()[0]).isEqualTo(course.coordinates().getFirst().elevation());
+    }
+
+    @Test
+    void 좌표가_적으면_좌표_수만큼만_표본을_만든다() {
+        Course course = new Course("코스", List.of(
+                new Coordinate(37.5, 127.0, 10),
+                new Coordinate(37.501, 127.0, 20),
+                new Coordinate(37.501, 127.001, 30)
+        ));
+
+        assertThat(course.elevationProfile().samples()).hasSize(course.coordinates().size());
+    }
+
+    @Test
+    void 상승이_클수록_난이도가_높다() {
+        Course flat = loop(i -> 0);
+        Course hilly = loop(i -> 50 * (1 - Math.cos(2 * Math.PI * i / POINT_COUNT)));
+
+        assertThat(hilly.difficulty()).isGreaterThan(flat.difficulty());
+    }
+
+    @Test
+    void 고도_표본을_변환한_값을_다시_변환하면_같은_값이_된다() {
+        ElevationSamplesConverter converter = new ElevationSamplesConverter();
+        double[] samples = loop(i -> Math.sin(i) * 7.3).elevationProfile().samples();
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(samples))).isEqualTo(samples);
+    }
+
+    private static Course loop(IntToDoubleFunction elevation) {
+        List<Coordinate> coordinates = new ArrayList<>();
+        for (int i = 0; i < POINT_COUNT; i++) {
+            double angle = 2 * Math.PI * i / POINT_COUNT;
+            coordinates.add(new Coordinate(37.5 + 0.01 * Math.sin(angle), 127.0 + 0.01 * Math.cos(angle), elevation.applyAsDouble(i)));
+        }
+        return new Course("코스", coordinates);
+    }
+}
@@ -0,0 +1,38 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EncodedPolylineTest {
+
+    @Test
+    void 좌표를_인코딩된_폴리라인으로_변환한다() {
+        List<Coordinate> coordinates = List.of(
+                new Coordinate(38.5, -120.2),
+                new Coordinate(40.7, -120.95),
+                new Coordinate(43.252, -126.453)
+        );
+
+        assertThat(EncodedPolyline.encode(coordinates)).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    }
+
+    @Test
+    void 인코딩한_값을_다시_디코딩하면_같은_좌표가_된다() {
+        List<Coordinate> coordinates = List.of(
+                new Coordinate(37.50929, 127.09809),
+                new Coordinate(37.51041, 127.10157),
+                new Coordinate(-33.86882, 151.20929)
+        );
+
+        assertThat(EncodedPolyline.decode(EncodedPolyline.encode(coordinates))).isEqualTo(coordinates);
+    }
+
+    @Test
+    void 잘린_폴리라인은_디코딩할_수_없다() {
+        assertThatThrownBy(() -> EncodedPolyline.decode("_p~iF~ps|U_"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EquirectangularTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {10, 1_000, 10_000, 50_000})
+    void 허용_범위_안에서는_하버사인_거리와의_오차가_한계를_넘지_않는다(double maxDistance) {
+        Random random = new Random((long) maxDistance);
+
+        for (int i = 0; i < 100_000; i++) {
+            double latitude = random.nextDouble(-Equirectangular.MAX_LATITUDE, Equirectangular.MAX_LATITUDE);
+            double longitude = random.nextDouble(-180, 180);
+            double angularDistance = maxDistance / Haversine.EARTH_RADIUS_METERS * random.nextDouble();
+            double bearing = random.nextDouble(0, 2 * Math.PI);
+            double otherLatitude = latitude + Math.toDegrees(angularDistance * Math.cos(bearing));
+            double otherLongitude = longitude
+                    + Math.toDegrees(angularDistance * Math.sin(bearing)) / Math.cos(Math.toRadians(latitude));
+            otherLongitude = ((otherLongitude + 540) % 360) - 180;
+            double exact = Haversine.distance(latitude, longitude, otherLatitude, otherLongitude);
+            if (exact > Equirectangular.MAX_DISTANCE_METERS) {
+                continue;
+            }
+
+            double approximate = Equirectangular.from(latitude, longitude).distanceTo(otherLatitude, otherLongitude);
+
+            assertThat(Math.abs(approximate - exact))
+                    .isLessThanOrEqualTo(Equirectangular.RELATIVE_ERROR * exact + Equirectangular.ABSOLUTE_ERROR_METERS);
+            assertThat(Equirectangular.lowerBound(approximate)).isLessThanOrEqualTo(exact);
+            assertThat(Equirectangular.upperBound(approximate)).isGreaterThanOrEqualTo(exact);
+        }
+    }
+
+    @Test
+    void 날짜변경선을_넘는_경도_차이도_짧은_거리로_계산한다() {
+        double approximate = Equirectangular.from(0, 179.9999).distanceTo(0, -179.9999);
+
+        assertThat(approximate).isEqualTo(Haversine.distance(0, 179.9999, 0, -179.9999), within(0.001));
+    }
+
+    @Test
+    void 극지방_좌표는_근사하지_않는다() {
+        assertThat(Equirectangular.from(Equirectangular.MAX_LATITUDE + 1, 0)).isNull();
+    }
+}
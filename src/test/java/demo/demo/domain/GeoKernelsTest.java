@@ -0,0 +1,62 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GeoKernelsTest {
+
+    private GeoKernels vector;
+
+    @BeforeEach
+    void setUp() {
+        assumeThat(GeoKernels.vectorSupported()).isTrue();
+        vector = GeoKernels.vector();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 8, 9, 100, 1_001})
+    void 벡터_구간_길이는_스칼라_구간_길이와_같다(int size) {
+        double[][] coordinates = randomCoordinates(size);
+        double[] scalarLengths = new double[size - 1];
+        double[] vectorLengths = new double[size - 1];
+
+        GeoKernels.scalar().segmentLengths(coordinates[0], coordinates[1], scalarLengths);
+        vector.segmentLengths(coordinates[0], coordinates[1], vectorLengths);
+
+        for (int i = 0; i < scalarLengths.length; i++) {
+            assertThat(vectorLengths[i]).isCloseTo(scalarLengths[i], within(1e-9 + scalarLengths[i] * 1e-12));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 9})
+    void 같은_좌표_사이의_구간_길이는_0이다(int size) {
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        Arrays.fill(latitudes, 37.5);
+        Arrays.fill(longitudes, 127.0);
+        double[] lengths = new double[size - 1];
+
+        vector.segmentLengths(latitudes, longitudes, lengths);
+
+        assertThat(lengths).containsOnly(0.0);
+    }
+
+    private static double[][] randomCoordinates(int size) {
+        Random random = new Random(size);
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = random.nextDouble(-89, 89);
+            longitudes[i] = random.nextDouble(-180, 180);
+        }
+        return new double[][]{latitudes, longitudes};
+    }
+}
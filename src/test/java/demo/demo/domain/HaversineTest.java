@@ -0,0 +1,61 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.distance.GeodesicSphereDistCalc;
+import org.locationtech.spatial4j.shape.ShapeFactory;
+
+class HaversineTest {
+
+    @Test
+    void 같은_좌표_사이의_거리는_0이다() {
+        assertThat(Haversine.distance(37.509287, 127.098094, 37.509287, 127.098094)).isZero();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "37.509287, 127.098094, 37.510485, 127.101572",
+            "37.518400, 126.995600, 35.153170, 129.118666",
+            "0, 0, 0, 179.999999",
+            "-89.9, 10, 89.9, -170"
+    })
+    void spatial4j의_하버사인_거리와_같다(double startLatitude, double startLongitude, double endLatitude, double endLongitude) {
+        double expected = spatial4jDistance(startLatitude, startLongitude, endLatitude, endLongitude);
+
+        double distance = Haversine.distance(startLatitude, startLongitude, endLatitude, endLongitude);
+
+        assertThat(distance).isCloseTo(expected, within(1e-6));
+    }
+
+    @Test
+    void 임의의_좌표들에서도_spatial4j의_하버사인_거리와_같다() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            double startLatitude = random.nextDouble(-89, 89);
+            double startLongitude = random.nextDouble(-179, 179);
+            double endLatitude = startLatitude + random.nextDouble(-0.01, 0.01);
+            double endLongitude = startLongitude + random.nextDouble(-0.01, 0.01);
+            double expected = spatial4jDistance(startLatitude, startLongitude, endLatitude, endLongitude);
+
+            double distance = Haversine.distance(startLatitude, startLongitude, endLatitude, endLongitude);
+
+            assertThat(distance).isCloseTo(expected, within(1e-6));
+        }
+    }
+
+    private static double spatial4jDistance(double startLatitude, double startLongitude, double endLatitude, double endLongitude) {
+        ShapeFactory shapeFactory = SpatialContext.GEO.getShapeFactory();
+        double degrees = new GeodesicSphereDistCalc.Haversine().distance(
+                shapeFactory.pointXY(startLongitude, startLatitude),
+                shapeFactory.pointXY(endLongitude, endLatitude)
+        );
+        return degrees * Haversine.EARTH_RADIUS_METERS * Math.PI / 180.0;
+    }
+}
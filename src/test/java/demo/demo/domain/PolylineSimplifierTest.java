@@ -0,0 +1,78 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PolylineSimplifierTest {
+
+    @Test
+    void 직선_위의_좌표는_시작점과_끝점만_남긴다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.5, 127.001),
+                new Coordinate(37.5, 127.002),
+                new Coordinate(37.5, 127.003)
+        ));
+
+        var simplified = PolylineSimplifier.simplify(coordinates, 1);
+
+        assertThat(simplified.asList()).containsExactly(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.5, 127.003)
+        );
+    }
+
+    @Test
+    void 허용_오차보다_멀리_벗어난_좌표는_남긴다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.5001, 127.001),
+                new Coordinate(37.5, 127.002)
+        ));
+
+        assertThat(PolylineSimplifier.simplify(coordinates, 5).size()).isEqualTo(3);
+        assertThat(PolylineSimplifier.simplify(coordinates, 20).size()).isEqualTo(2);
+    }
+
+    @Test
+    void 단순화한_경로는_모든_원래_좌표와_허용_오차_이내로_떨어져_있다() {
+        var coordinates = Coordinates.from(randomWalk(5_000));
+
+        var simplified = new Course("단순화 코스", PolylineSimplifier.simplify(coordinates, 10).asList());
+
+        assertThat(simplified.coordinates().size()).isLessThan(coordinates.size() / 2);
+        for (int i = 0; i < coordinates.size(); i++) {
+            assertThat(simplified.distanceFrom(coordinates.get(i)).value()).isLessThan(10.5);
+        }
+    }
+
+    @Test
+    void 닫힌_경로도_단순화한다() {
+        var coordinates = Coordinates.from(List.of(
+                new Coordinate(37.5, 127.0),
+                new Coordinate(37.501, 127.0),
+                new Coordinate(37.501, 127.001),
+                new Coordinate(37.5, 127.001),
+                new Coordinate(37.5, 127.0)
+        ));
+
+        assertThat(PolylineSimplifier.simplify(coordinates, 1).asList()).isEqualTo(coordinates.asList());
+    }
+
+    private static List<Coordinate> randomWalk(int size) {
+        Random random = new Random(3);
+        List<Coordinate> coordinates = new ArrayList<>();
+        double latitude = 37.5;
+        double longitude = 127.0;
+        for (int i = 0; i < size; i++) {
+            latitude += random.nextDouble(-0.00002, 0.0001);
+            longitude += random.nextDouble(-0.00002, 0.0001);
+            coordinates.add(new Coordinate(latitude, longitude));
+        }
+        return coordinates;
+    }
+}
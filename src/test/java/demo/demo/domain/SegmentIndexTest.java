@@ -0,0 +1,108 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SegmentIndexTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 9, 100, 5_000})
+    void 모든_선분을_확인한_결과와_같은_선분을_찾는다(int coordinateCount) {
+        Random random = new Random(coordinateCount);
+        Coordinates coordinates = Coordinates.from(randomWalk(random, coordinateCount));
+        SegmentIndex segmentIndex = new SegmentIndex(coordinates);
+
+        for (int i = 0; i < 500; i++) {
+            Coordinate target = new Coordinate(37.5 + random.nextDouble(-0.05, 0.05), 127.0 + random.nextDouble(-0.05, 0.05));
+
+            int segment = segmentIndex.nearestSegment(target.latitude(), target.longitude());
+
+            assertThat(segment).isEqualTo(bruteForceNearestSegment(coordinates, target));
+        }
+    }
+
+    @Test
+    void 겹치는_선분이_있으면_마지막_선분을_찾는다() {
+        Coordinates coordinates = Coordinates.from(List.of(
+                new Coordinate(0, 0),
+                new Coordinate(10, 10),
+                new Coordinate(0, 0)
+        ));
+        SegmentIndex segmentIndex = new SegmentIndex(coordinates);
+
+        assertThat(segmentIndex.nearestSegment(5, 0)).isEqualTo(1);
+    }
+
+    @Test
+    void 길이가_0인_선분만_있으면_찾지_못한다() {
+        Coordinates coordinates = Coordinates.from(List.of(new Coordinate(1, 1), new Coordinate(1, 1)));
+        SegmentIndex segmentIndex = new SegmentIndex(coordinates);
+
+        assertThat(segmentIndex.nearestSegment(2, 2)).isEqualTo(SegmentIndex.NO_SEGMENT);
+    }
+
+    @Test
+    void 선분까지의_거리는_선분_위의_가장_가까운_좌표까지의_거리와_같다() {
+        Coordinates coordinates = Coordinates.from(List.of(
+                new Coordinate(37.519760, 126.995477),
+                new Coordinate(37.517083, 126.997182)
+        ));
+        Coordinate target = new Coordinate(37.516678, 126.997065);
+        Coordinate closest = GeoLine.between(coordinates.get(0), coordinates.get(1)).closestCoordinateFrom(target);
+
+        double distance = SegmentIndex.distanceToSegment(coordinates, 0, target.latitude(), target.longitude());
+
+        assertThat(distance).isEqualTo(Haversine.distance(target, closest));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {9, 100, 5_000})
+    void 반경_안에_선분이_있는지는_가장_가까운_선분까지의_거리로_판단한_결과와_같다(int coordinateCount) {
+        Random random = new Random(coordinateCount);
+        Coordinates coordinates = Coordinates.from(randomWalk(random, coordinateCount));
+        SegmentIndex segmentIndex = new SegmentIndex(coordinates);
+
+        for (int i = 0; i < 500; i++) {
+            Coordinate target = new Coordinate(37.5 + random.nextDouble(-0.05, 0.05), 127.0 + random.nextDouble(-0.05, 0.05));
+            int nearestSegment = bruteForceNearestSegment(coordinates, target);
+            double nearestDistance = SegmentIndex.distanceToSegment(coordinates, nearestSegment, target.latitude(), target.longitude());
+
+            for (double radius : new double[]{nearestDistance, Math.nextDown(nearestDistance), nearestDistance * 0.9995, nearestDistance * 1.0005}) {
+                assertThat(segmentIndex.anySegmentWithin(target.latitude(), target.longitude(), radius))
+                        .isEqualTo(nearestDistance <= radius);
+            }
+        }
+    }
+
+    private static int bruteForceNearestSegment(Coordinates coordinates, Coordinate target) {
+        int nearestSegment = SegmentIndex.NO_SEGMENT;
+        double minDistance = Double.MAX_VALUE;
+        for (int i = 0; i < coordinates.size() - 1; i++) {
+            Coordinate closest = GeoLine.between(coordinates.get(i), coordinates.get(i + 1)).closestCoordinateFrom(target);
+            double distance = Haversine.distance(target, closest);
+            if (distance <= minDistance) {
+                minDistance = distance;
+                nearestSegment = i;
+            }
+        }
+        return nearestSegment;
+    }
+
+    private static List<Coordinate> randomWalk(Random random, int size) {
+        List<Coordinate> coordinates = new ArrayList<>();
+        double latitude = 37.5;
+        double longitude = 127.0;
+        for (int i = 0; i < size; i++) {
+            latitude += random.nextDouble(-0.0005, 0.0005);
+            longitude += random.nextDouble(-0.0005, 0.0005);
+            coordinates.add(new Coordinate(latitude, longitude));
+        }
+        return coordinates;
+    }
+}
@@ -0,0 +1,69 @@
+package demo.demo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TileTest {
+
+    @Test
+    void 줌_0_타일은_메르카토르_범위_전체를_덮는다() {
+        BoundingBox boundingBox = new Tile(0, 0, 0).boundingBox();
+
+        assertThat(boundingBox.minLatitude()).isCloseTo(-85.0511, within(1e-4));
+        assertThat(boundingBox.maxLatitude()).isCloseTo(85.0511, within(1e-4));
+        assertThat(boundingBox.minLongitude()).isEqualTo(-180);
+        assertThat(boundingBox.maxLongitude()).isEqualTo(180);
+    }
+
+    @Test
+    void 좌표가_속한_타일의_영역은_그_좌표를_포함한다() {
+        Coordinate coordinate = new Coordinate(37.509287, 127.098094);
+
+        Tile tile = Tile.containing(coordinate, 14);
+
+        assertThat(tile).isEqualTo(new Tile(14, 13976, 6348));
+        assertThat(tile.boundingBox().contains(coordinate)).isTrue();
+    }
+
+    @Test
+    void 여유_영역은_타일_영역보다_넓다() {
+        Tile tile = new Tile(14, 13976, 6348);
+
+        BoundingBox boundingBox = tile.boundingBox();
+        BoundingBox buffered = tile.bufferedBoundingBox();
+
+        assertThat(buffered.minLatitude()).isLessThan(boundingBox.minLatitude());
+        assertThat(buffered.maxLatitude()).isGreaterThan(boundingBox.maxLatitude());
+        assertThat(buffered.minLongitude()).isLessThan(boundingBox.minLongitude());
+        assertThat(buffered.maxLongitude()).isGreaterThan(boundingBox.maxLongitude());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "12, true",
+            "18, false"
+    })
+    void 한_픽셀보다_작은_영역인지_판단한다(int zoom, boolean expected) {
+        Coordinate coordinate = new Coordinate(37.5, 127.0);
+        BoundingBox fiveMeters = new BoundingBox(37.5, 37.50005, 127.0, 127.0);
+
+        assertThat(Tile.containing(coordinate, zoom).isSubPixel(fiveMeters)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "-1, 0, 0",
+            "23, 0, 0",
+            "1, 2, 0",
+            "1, 0, -1"
+    })
+    void 범위를_벗어난_타일은_만들_수_없다(int zoom, int x, int y) {
+        assertThatThrownBy(() -> new Tile(zoom, x, y))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
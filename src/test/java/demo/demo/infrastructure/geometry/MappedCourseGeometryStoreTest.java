@@ -0,0 +1,252 @@
+package demo.demo.infrastructure.geometry;
+
+import static demo.demo.domain.CourseFixture.loop;
+import static demo.demo.domain.CourseFixture.withId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.demo.domain.BoundingBox;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseGeometry;
+import demo.demo.domain.CourseSummary;
+import demo.demo.domain.Meter;
+import demo.demo.domain.NearCourse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedCourseGeometryStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 저장한_코스의_좌표와_영역을_그대로_읽는다() {
+        Course course = loop(1L, 37.5, 127.0, 100);
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(course));
+
+            CourseGeometry geometry = store.findById(1L).orElseThrow();
+            assertThat(geometry.id()).isEqualTo(1L);
+            assertThat(geometry.toCoordinates().asList()).isEqualTo(course.coordinates());
+            assertThat(geometry.boundingBox()).isEqualTo(course.boundingBox());
+            assertThat(geometry.summary()).isEqualTo(CourseSummary.from(course));
+        }
+    }
+
+    @Test
+    void 다시_열면_파일을_매핑해서_복원한다() {
+        Path path = directory.resolve("geometry.dat");
+        List<Course> courses = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            courses.add(loop(id, 37.5 + id * 0.01, 127.0, 200));
+        }
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path, 16 * 1024)) {
+            store.putAll(courses.subList(0, 20));
+            store.putAll(courses.subList(20, 50));
+        }
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path)) {
+            assertThat(store.size()).isEqualTo(50);
+            for (Course course : courses) {
+                assertThat(store.findById(course.id()).orElseThrow().toCoordinates().asList())
+                        .isEqualTo(course.coordinates());
+            }
+        }
+    }
+
+    @Test
+    void 같은_코스를_다시_저장하면_최신_좌표를_사용한다() {
+        Path path = directory.resolve("geometry.dat");
+        Course updated = loop(1L, 35.1, 129.0, 10);
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path)) {
+            store.putAll(List.of(loop(1L, 37.5, 127.0, 10)));
+            store.putAll(List.of(updated));
+        }
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path)) {
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.findById(1L).orElseThrow().toCoordinates().asList()).isEqualTo(updated.coordinates());
+        }
+    }
+
+    @Test
+    void 같은_코스를_반복해서_저장해도_파일이_계속_커지지_않는다() throws IOException {
+        Path path = directory.resolve("geometry.dat");
+        Course latest = loop(1L, 37.5, 127.0, 100);
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path, 16 * 1024)) {
+            store.putAll(List.of(loop(2L, 35.1, 129.0, 100)));
+            for (int i = 0; i < 50; i++) {
+                latest = loop(1L, 37.5 + i * 0.001, 127.0, 100);
+                store.putAll(List.of(latest));
+            }
+        }
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.findById(1L).orElseThrow().toCoordinates().asList()).isEqualTo(latest.coordinates());
+            assertThat(store.findAllIntersecting(latest.boundingBox())).extracting(CourseGeometry::id).containsExactly(1L);
+        }
+        assertThat(writePositionOf(path)).isLessThanOrEqualTo(64 + 4L * CourseGeometry.encodedSize(latest));
+    }
+
+    @Test
+    void 지운_코스는_다시_열어도_복원하지_않는다() {
+        Path path = directory.resolve("geometry.dat");
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path)) {
+            store.putAll(List.of(loop(1L, 37.5, 127.0, 20), loop(2L, 35.1, 129.0, 20)));
+            CourseGeometry removed = store.findById(1L).orElseThrow();
+
+            store.removeAll(List.of(1L));
+
+            assertThat(store.findById(1L)).isEmpty();
+            assertThat(store.findAllIntersecting(removed.boundingBox())).isEmpty();
+            assertThat(removed.toCoordinates().size()).isEqualTo(21);
+        }
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path)) {
+            assertThat(store.findAll()).extracting(CourseGeometry::id).containsExactly(2L);
+        }
+    }
+
+    @Test
+    void 스냅_결과가_코스와_같다() {
+        Course course = loop(1L, 37.5, 127.0, 500);
+        Random random = new Random(7);
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(course));
+            CourseGeometry geometry = store.findById(1L).orElseThrow();
+
+            for (int i = 0; i < 200; i++) {
+                Coordinate target = new Coordinate(37.5 + random.nextDouble(-0.02, 0.02), 127.0 + random.nextDouble(-0.02, 0.02));
+                assertThat(geometry.snap(target)).isEqualTo(course.snap(target));
+            }
+        }
+    }
+
+    @Test
+    void 반경_안의_코스_형상을_찾는다() {
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(loop(1L, 37.5, 127.0, 20), loop(2L, 35.1, 129.0, 20)));
+
+            List<NearCourse> found = store.findAllHasDistanceWithin(new Coordinate(37.5, 127.0), new Meter(2000));
+
+            assertThat(found).extracting(near -> near.course().id()).containsExactly(1L);
+            assertThat(found.getFirst().distance()).isEqualTo(loop(1L, 37.5, 127.0, 20).distanceFrom(new Coordinate(37.5, 127.0)));
+        }
+    }
+
+    @Test
+    void 영역과_겹치는_코스만_찾는다() {
+        Course wide = withId(new Course("전국 일주", List.of(
+                new Coordinate(33.0, 126.0),
+                new Coordinate(38.0, 126.0),
+                new Coordinate(38.0, 129.0)
+        )), 4L);
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(loop(1L, 37.5, 127.0, 20), loop(2L, 35.1, 129.0, 20), loop(3L, 37.5, 127.3, 20), wide));
+            store.putAll(List.of(loop(3L, 35.1, 129.3, 20)));
+
+            List<CourseGeometry> found = store.findAllIntersecting(BoundingBox.around(new Coordinate(37.5, 127.0), new Meter(2000)));
+
+            assertThat(found).extracting(CourseGeometry::id).containsExactlyInAnyOrder(1L, 4L);
+        }
+    }
+
+    @Test
+    void 영역_경계에서_내림_오차만큼_벗어난_코스도_찾는다() {
+        Course edge = withId(new Course("경계", List.of(new Coordinate(37.510001, 127.005), new Coordinate(37.52, 127.006))), 1L);
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(edge));
+
+            assertThat(store.findAllIntersecting(new BoundingBox(37.5, 37.51, 127.0, 127.01)))
+                    .extracting(CourseGeometry::id)
+                    .containsExactly(1L);
+        }
+    }
+
+    @Test
+    void 가까운_순서대로_K개의_코스를_찾는다() {
+        Random random = new Random(5);
+        List<Course> courses = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            courses.add(loop(id, 37.0 + random.nextDouble(), 126.5 + random.nextDouble(), 30));
+        }
+        Coordinate target = new Coordinate(37.5, 127.0);
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(courses);
+
+            List<NearCourse> nearest = store.findNearest(target, 10);
+
+            List<Long> expected = courses.stream()
+                    .sorted(Comparator.comparingDouble((Course course) -> course.distanceFrom(target).value())
+                            .thenComparing(Course::id))
+                    .limit(10)
+                    .map(Course::id)
+                    .toList();
+            assertThat(nearest).extracting(near -> near.course().id()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void 형식이_다른_파일은_비우고_다시_만든다() throws IOException {
+        Path path = directory.resolve("geometry.dat");
+        ByteBuffer header = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, 0x43474d53).putInt(4, 1).putInt(8, 16 * 1024).putLong(16, 64);
+        Files.write(path, header.array());
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(path)) {
+            assertThat(store.size()).isZero();
+            store.putAll(List.of(loop(1L, 37.5, 127.0, 10)));
+            assertThat(store.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void 표현할_수_없는_고도는_가장_가까운_값으로_저장한다() {
+        Course course = withId(new Course("에베레스트", List.of(
+                new Coordinate(37.5, 127.0, 3_000_000),
+                new Coordinate(37.51, 127.01, -3_000_000),
+                new Coordinate(37.52, 127.0, 8848.86)
+        )), 1L);
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            store.putAll(List.of(course));
+
+            assertThat(store.findById(1L).orElseThrow().toCoordinates().asList())
+                    .extracting(Coordinate::elevation)
+                    .containsExactlyInAnyOrder(Integer.MAX_VALUE / 1000.0, Integer.MIN_VALUE / 1000.0, 8848.86, Integer.MAX_VALUE / 1000.0);
+        }
+    }
+
+    @Test
+    void 저장되지_않은_코스는_넣을_수_없다() {
+        Course course = new Course("석촌호수", List.of(new Coordinate(37.5, 127.0), new Coordinate(37.51, 127.01)));
+
+        try (MappedCourseGeometryStore store = new MappedCourseGeometryStore(directory.resolve("geometry.dat"))) {
+            assertThatThrownBy(() -> store.putAll(List.of(course)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(store.size()).isZero();
+        }
+    }
+
+    private static long writePositionOf(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(path), 0, 64).order(ByteOrder.LITTLE_ENDIAN);
+        return header.getLong(16);
+    }
+
+}
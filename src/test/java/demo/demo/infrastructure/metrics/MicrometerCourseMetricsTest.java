@@ -0,0 +1,79 @@
+package demo.demo.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import demo.demo.application.CourseCache;
+import demo.demo.application.CourseService;
+import demo.demo.application.CourseTileCache;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import demo.demo.domain.CourseDraft;
+import demo.demo.domain.CourseGeometryStore;
+import demo.demo.domain.CourseMetrics;
+import demo.demo.domain.CourseRepository;
+import demo.demo.infrastructure.parser.GpxCourseParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class MicrometerCourseMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerCourseMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerCourseMetrics(registry);
+    }
+
+    @Test
+    void 스냅_요청을_기록한다() {
+        CourseCache courseCache = mock(CourseCache.class);
+        given(courseCache.findById(1L)).willReturn(Optional.of(new Course("석촌호수", List.of(
+                new Coordinate(37.509287, 127.098094),
+                new Coordinate(37.510485, 127.101572),
+                new Coordinate(37.505562, 127.104631)
+        ))));
+        CourseService courseService = new CourseService(
+                mock(CourseRepository.class),
+                new StaticListableBeanFactory().getBeanProvider(CourseGeometryStore.class),
+                courseCache,
+                mock(CourseTileCache.class),
+                new StaticListableBeanFactory(Map.of("courseMetrics", metrics)).getBeanProvider(CourseMetrics.class)
+        );
+
+        courseService.snap(1L, List.of(new Coordinate(37.5095, 127.0990), new Coordinate(37.5080, 127.1020)));
+
+        assertThat(registry.get("course.snap").timer().count()).isEqualTo(1);
+        assertThat(registry.get("course.snap.coordinates").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void 파싱한_점과_바이트_수를_기록한다() {
+        byte[] gpx = """
+                <gpx><trk><name>석촌호수</name><trkseg>
+                <trkpt lat="37.509287" lon="127.098094"/>
+                <trkpt lat="37.510485" lon="127.101572"/>
+                <trkpt lat="37.505562" lon="127.104631"/>
+                </trkseg></trk></gpx>
+                """.getBytes(StandardCharsets.UTF_8);
+
+        try (Stream<CourseDraft> drafts = new GpxCourseParser().streamDrafts(new ByteArrayInputStream(gpx), metrics)) {
+            assertThat(drafts).hasSize(1);
+        }
+
+        assertThat(registry.get("course.parse").timer().count()).isEqualTo(1);
+        assertThat(registry.get("course.parse.points").summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get("course.parse.bytes").summary().totalAmount()).isEqualTo(gpx.length);
+    }
+}
@@ -0,0 +1,89 @@
+package demo.demo.infrastructure.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FitCourseParserTest {
+
+    private final FitCourseParser parser = new FitCourseParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"fit", "FIT", ".fit"})
+    void FIT_확장자를_파싱할_수_있다(String extension) {
+        assertThat(parser.canParse(extension)).isTrue();
+    }
+
+    @Test
+    void 파일_헤더로_FIT_파일을_판별한다() {
+        byte[] fit = new FitFileBuilder().point(37.5, 127.0, 10).build();
+
+        assertThat(parser.canParse(Arrays.copyOf(fit, 14))).isTrue();
+        assertThat(parser.canParse("<gpx>".getBytes())).isFalse();
+    }
+
+    @Test
+    void 레코드_메시지의_좌표와_고도로_코스를_생성한다() {
+        byte[] fit = new FitFileBuilder()
+                .course("석촌호수 한바퀴")
+                .point(37.509287, 127.098094, 12.4)
+                .pointWithoutPosition()
+                .point(37.510485, 127.101572, 13.2)
+                .build();
+
+        List<Course> courses = parser.parse(new ByteArrayInputStream(fit));
+
+        assertThat(courses).extracting(Course::name).containsExactly("석촌호수 한바퀴");
+        List<Coordinate> coordinates = courses.getFirst().coordinates();
+        assertThat(coordinates).hasSize(3);
+        assertThat(coordinates.getFirst().latitude()).isCloseTo(37.509287, within(1e-6));
+        assertThat(coordinates.getFirst().longitude()).isCloseTo(127.098094, within(1e-6));
+        assertThat(coordinates.getFirst().elevation()).isCloseTo(12.4, within(0.2));
+        assertThat(coordinates.get(1).latitude()).isCloseTo(37.510485, within(1e-6));
+    }
+
+    @Test
+    void 이어_붙인_FIT_파일마다_코스를_생성한다() {
+        ByteArrayOutputStream chained = new ByteArrayOutputStream();
+        chained.writeBytes(new FitFileBuilder().course("첫번째 코스").point(37.5, 127.0, 0).point(37.501, 127.0, 0).build());
+        chained.writeBytes(new FitFileBuilder().course("두번째 코스").point(35.1, 129.0, 0).point(35.101, 129.0, 0).build());
+
+        List<Course> courses = parser.parse(new ByteArrayInputStream(chained.toByteArray()));
+
+        assertThat(courses).extracting(Course::name).containsExactly("첫번째 코스", "두번째 코스");
+    }
+
+    @Test
+    void 좌표가_2개보다_적은_파일은_건너뛴다() {
+        byte[] fit = new FitFileBuilder().point(37.5, 127.0, 0).build();
+
+        assertThat(parser.parse(new ByteArrayInputStream(fit))).isEmpty();
+    }
+
+    @Test
+    void CRC가_맞지_않으면_예외가_발생한다() {
+        byte[] fit = new FitFileBuilder().point(37.5, 127.0, 0).point(37.501, 127.0, 0).build();
+        fit[fit.length - 1] ^= 0x01;
+
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(fit)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 잘린_파일이면_예외가_발생한다() {
+        byte[] fit = new FitFileBuilder().point(37.5, 127.0, 0).point(37.501, 127.0, 0).build();
+
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(Arrays.copyOf(fit, fit.length - 10))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
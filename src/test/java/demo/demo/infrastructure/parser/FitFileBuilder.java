@@ -0,0 +1,71 @@
+package demo.demo.infrastructure.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+class FitFileBuilder {
+
+    private static final int RECORD_LOCAL_MESSAGE = 0;
+    private static final int COURSE_LOCAL_MESSAGE = 1;
+    private static final int NAME_BYTES = 32;
+
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private boolean recordDefined;
+
+    FitFileBuilder course(String name) {
+        records.write(0x40 | COURSE_LOCAL_MESSAGE);
+        records.writeBytes(new byte[]{0, 0, 31, 0, 1, 5, NAME_BYTES, 7});
+        records.write(COURSE_LOCAL_MESSAGE);
+        byte[] nameBytes = new byte[NAME_BYTES];
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(encoded, 0, nameBytes, 0, Math.min(encoded.length, NAME_BYTES - 1));
+        records.writeBytes(nameBytes);
+        return this;
+    }
+
+    FitFileBuilder point(double latitude, double longitude, double elevation) {
+        if (!recordDefined) {
+            records.write(0x40 | RECORD_LOCAL_MESSAGE);
+            records.writeBytes(new byte[]{0, 0, 20, 0, 4, (byte) 253, 4, (byte) 0x86, 0, 4, (byte) 0x85, 1, 4, (byte) 0x85, 2, 2, (byte) 0x84});
+            recordDefined = true;
+        }
+        records.write(RECORD_LOCAL_MESSAGE);
+        writeLittleEndian(0, 4);
+        writeLittleEndian(Math.round(latitude / 180.0 * (1L << 31)), 4);
+        writeLittleEndian(Math.round(longitude / 180.0 * (1L << 31)), 4);
+        writeLittleEndian(Math.round((elevation + 500) * 5), 2);
+        return this;
+    }
+
+    FitFileBuilder pointWithoutPosition() {
+        records.write(RECORD_LOCAL_MESSAGE);
+        writeLittleEndian(0, 4);
+        writeLittleEndian(0x7FFFFFFF, 4);
+        writeLittleEndian(0x7FFFFFFF, 4);
+        writeLittleEndian(0xFFFF, 2);
+        return this;
+    }
+
+    byte[] build() {
+        byte[] data = records.toByteArray();
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        file.writeBytes(new byte[]{14, 0x20, 0x5C, 0x08});
+        file.writeBytes(new byte[]{(byte) data.length, (byte) (data.length >> 8), (byte) (data.length >> 16), (byte) (data.length >> 24)});
+        file.writeBytes(".FIT".getBytes(StandardCharsets.US_ASCII));
+        file.writeBytes(new byte[]{0, 0});
+        file.writeBytes(data);
+        int crc = 0;
+        for (byte value : file.toByteArray()) {
+            crc = FitCourseParser.crc(crc, value & 0xFF);
+        }
+        file.write(crc & 0xFF);
+        file.write(crc >> 8);
+        return file.toByteArray();
+    }
+
+    private void writeLittleEndian(long value, int size) {
+        for (int i = 0; i < size; i++) {
+            records.write((int) (value >> (8 * i)) & 0xFF);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package demo.demo.infrastructure.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class GeoJsonCourseParserTest {
+
+    private final GeoJsonCourseParser parser = new GeoJsonCourseParser();
+
+    @Test
+    void GeoJSON_확장자와_내용으로_판별한다() {
+        assertThat(parser.canParse("geojson")).isTrue();
+        assertThat(parser.canParse("json")).isTrue();
+        assertThat(parser.canParse("  {\"type\": \"Feature\"}".getBytes(StandardCharsets.UTF_8))).isTrue();
+        assertThat(parser.canParse("<gpx>".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    void 피처_컬렉션의_LineString마다_코스를_생성한다() {
+        String geoJson = """
+                {"type": "FeatureCollection", "features": [
+                  {"type": "Feature",
+                   "geometry": {"type": "LineString", "coordinates": [[127.098094, 37.509287, 12.5], [127.101572, 37.510485]]},
+                   "properties": {"name": "석촌호수", "tags": ["호수"]}},
+                  {"type": "Feature", "geometry": {"type": "Point", "coordinates": [127.0, 37.5]}, "properties": {"name": "급수대"}},
+                  {"type": "Feature", "properties": null,
+                   "geometry": {"type": "LineString", "coordinates": [[127.0, 37.5], [127.0, 37.501]]}}
+                ]}
+                """;
+
+        List<Course> courses = parser.parse(toInputStream(geoJson));
+
+        assertThat(courses).extracting(Course::name).containsExactly("석촌호수", "이름 없는 코스");
+        assertThat(courses.getFirst().coordinates()).startsWith(
+                new Coordinate(37.509287, 127.098094, 12.5),
+                new Coordinate(37.510485, 127.101572)
+        );
+    }
+
+    @Test
+    void 단일_LineString_도_코스로_생성한다() {
+        String geoJson = """
+                {"coordinates": [[127.0, 37.5], [127.0, 37.501]], "type": "LineString"}
+                """;
+
+        assertThat(parser.parse(toInputStream(geoJson))).hasSize(1);
+    }
+
+    @Test
+    void 다른_도형은_건너뛴다() {
+        String geoJson = """
+                {"type": "Polygon", "coordinates": [[[127.0, 37.5], [127.0, 37.501], [127.001, 37.5], [127.0, 37.5]]]}
+                """;
+
+        assertThat(parser.parse(toInputStream(geoJson))).isEmpty();
+    }
+
+    @Test
+    void 스트림은_파일_전체를_읽기_전에_앞선_코스를_반환한다() {
+        String head = """
+                {"type": "FeatureCollection", "features": [
+                  {"type": "Feature", "properties": {"name": "첫번째 코스"},
+                   "geometry": {"type": "LineString", "coordinates": [[127.0, 37.5], [127.0, 37.501]]}},
+                """;
+        InputStream truncated = new SequenceInputStream(toInputStream(head), toInputStream("{\"type\": [[[broken"));
+
+        try (Stream<Course> courses = parser.stream(truncated)) {
+            Optional<Course> first = courses.findFirst();
+
+            assertThat(first).map(Course::name).hasValue("첫번째 코스");
+        }
+    }
+
+    @Test
+    void 올바르지_않은_문서면_예외가_발생한다() {
+        assertThatThrownBy(() -> parser.parse(toInputStream("{\"type\": \"LineString\", \"coordinates\": [[")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse(toInputStream("[1, 2]")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream toInputStream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package demo.demo.infrastructure.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import io.jenetics.jpx.GPX;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GpxCourseParserTest {
+
+    private final GpxCourseParser parser = new GpxCourseParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gpx", "GPX", ".gpx"})
+    void GPX_확장자를_파싱할_수_있다(String extension) {
+        assertThat(parser.canParse(extension)).isTrue();
+    }
+
+    @Test
+    void 다른_확장자는_파싱할_수_없다() {
+        assertThat(parser.canParse("tcx")).isFalse();
+    }
+
+    @Test
+    void 루트_요소로_GPX_문서를_판별한다() {
+        assertThat(parser.canParse("<?xml version=\"1.0\"?>\n<gpx version=\"1.1\">".getBytes(StandardCharsets.UTF_8))).isTrue();
+        assertThat(parser.canParse("<?xml version=\"1.0\"?>\n<TrainingCenterDatabase>".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    void 트랙마다_코스를_생성한다() throws IOException {
+        GPX gpx = GPX.builder()
+                .addTrack(track -> track
+                        .name("잠실 한강 산책길")
+                        .addSegment(segment -> segment
+                                .addPoint(p -> p.lat(37.522490).lon(127.099029).ele(12))
+                                .addPoint(p -> p.lat(37.521818).lon(127.096380).ele(13)))
+                        .addSegment(segment -> segment
+                                .addPoint(p -> p.lat(37.520995).lon(127.095899).ele(14))))
+                .addTrack(track -> track
+                        .name("잠실 종합운동장")
+                        .addSegment(segment -> segment
+                                .addPoint(p -> p.lat(37.517802).lon(127.069576))
+                                .addPoint(p -> p.lat(37.510638).lon(127.070661))
+                                .addPoint(p -> p.lat(37.517802).lon(127.069576))))
+                .build();
+
+        List<Course> courses = parser.parse(toInputStream(gpx));
+
+        assertThat(courses).extracting(Course::name).containsExactly("잠실 한강 산책길", "잠실 종합운동장");
+        assertThat(courses.getFirst().coordinates()).contains(
+                new Coordinate(37.522490, 127.099029, 12),
+                new Coordinate(37.521818, 127.096380, 13),
+                new Coordinate(37.520995, 127.095899, 14)
+        );
+    }
+
+    @Test
+    void 경로도_코스로_생성한다() throws IOException {
+        GPX gpx = GPX.builder()
+                .addRoute(route -> route
+                        .name("석촌호수")
+                        .addPoint(p -> p.lat(37.509287).lon(127.098094))
+                        .addPoint(p -> p.lat(37.510485).lon(127.101572)))
+                .build();
+
+        List<Course> courses = parser.parse(toInputStream(gpx));
+
+        assertThat(courses).extracting(Course::name).containsExactly("석촌호수");
+    }
+
+    @Test
+    void 트랙_이름이_없으면_메타데이터_이름을_사용한다() throws IOException {
+        GPX gpx = GPX.builder()
+                .metadata(metadata -> metadata.name("올림픽공원 한바퀴"))
+                .addTrack(track -> track
+                        .addSegment(segment -> segment
+                                .addPoint(p -> p.lat(37.5).lon(127.0))
+                                .addPoint(p -> p.lat(37.501).lon(127.0))))
+                .build();
+
+        List<Course> courses = parser.parse(toInputStream(gpx));
+
+        assertThat(courses).extracting(Course::name).containsExactly("올림픽공원 한바퀴");
+    }
+
+    @Test
+    void 좌표가_2개보다_적은_트랙은_건너뛴다() throws IOException {
+        GPX gpx = GPX.builder()
+                .addTrack(track -> track
+                        .name("한점코스")
+                        .addSegment(segment -> segment.addPoint(p -> p.lat(37.5).lon(127.0))))
+                .build();
+
+        assertThat(parser.parse(toInputStream(gpx))).isEmpty();
+    }
+
+    @Test
+    void 스트림은_파일_전체를_읽기_전에_앞선_코스를_반환한다() throws IOException {
+        String document = new String(toInputStream(GPX.builder()
+                .addTrack(track -> track
+                        .name("첫번째 코스")
+                        .addSegment(segment -> segment
+                                .addPoint(p -> p.lat(37.5).lon(127.0))
+                                .addPoint(p -> p.lat(37.501).lon(127.0))))
+                .build()).readAllBytes(), StandardCharsets.UTF_8);
+        String head = document.substring(0, document.indexOf("</trk>") + "</trk>".length());
+        InputStream truncated = new SequenceInputStream(
+                new ByteArrayInputStream(head.getBytes(StandardCharsets.UTF_8)),
+                new ByteArrayInputStream("<trk><<broken".getBytes(StandardCharsets.UTF_8))
+        );
+
+        try (Stream<Course> courses = parser.stream(truncated)) {
+            Optional<Course> first = courses.findFirst();
+
+            assertThat(first).map(Course::name).hasValue("첫번째 코스");
+        }
+    }
+
+    @Test
+    void 올바르지_않은_문서면_예외가_발생한다() {
+        InputStream broken = new ByteArrayInputStream("<gpx><trk><<".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> parser.parse(broken))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream toInputStream(GPX gpx) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        GPX.Writer.DEFAULT.write(gpx, outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,104 @@
+package demo.demo.infrastructure.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.Course;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TcxCourseParserTest {
+
+    private final TcxCourseParser parser = new TcxCourseParser();
+
+    @Test
+    void TCX_확장자와_루트_요소로_판별한다() {
+        assertThat(parser.canParse("tcx")).isTrue();
+        assertThat(parser.canParse("gpx")).isFalse();
+        assertThat(parser.canParse("<?xml version=\"1.0\"?><TrainingCenterDatabase>".getBytes(StandardCharsets.UTF_8))).isTrue();
+        assertThat(parser.canParse("<?xml version=\"1.0\"?><gpx>".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    void 코스마다_코스를_생성하고_코스_포인트_이름은_무시한다() {
+        String tcx = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <TrainingCenterDatabase xmlns="http://www.garmin.com/xmlschemas/TrainingCenterDatabase/v2">
+                  <Courses>
+                    <Course>
+                      <Name>석촌호수</Name>
+                      <Track>
+                        <Trackpoint>
+                          <Position><LatitudeDegrees>37.509287</LatitudeDegrees><LongitudeDegrees>127.098094</LongitudeDegrees></Position>
+                          <AltitudeMeters>12.5</AltitudeMeters>
+                        </Trackpoint>
+                        <Trackpoint><Time>2024-01-01T00:00:00Z</Time></Trackpoint>
+                        <Trackpoint>
+                          <Position><LatitudeDegrees>37.510485</LatitudeDegrees><LongitudeDegrees>127.101572</LongitudeDegrees></Position>
+                        </Trackpoint>
+                      </Track>
+                      <CoursePoint><Name>급수대</Name></CoursePoint>
+                    </Course>
+                  </Courses>
+                </TrainingCenterDatabase>
+                """;
+
+        List<Course> courses = parser.parse(toInputStream(tcx));
+
+        assertThat(courses).extracting(Course::name).containsExactly("석촌호수");
+        assertThat(courses.getFirst().coordinates()).startsWith(
+                new Coordinate(37.509287, 127.098094, 12.5),
+                new Coordinate(37.510485, 127.101572)
+        );
+    }
+
+    @Test
+    void 활동_기록도_코스로_생성한다() {
+        String tcx = """
+                <TrainingCenterDatabase>
+                  <Activities>
+                    <Activity Sport="Running">
+                      <Id>2024-01-01T00:00:00Z</Id>
+                      <Lap><Track>
+                        <Trackpoint><Position><LatitudeDegrees>37.5</LatitudeDegrees><LongitudeDegrees>127.0</LongitudeDegrees></Position></Trackpoint>
+                        <Trackpoint><Position><LatitudeDegrees>37.501</LatitudeDegrees><LongitudeDegrees>127.0</LongitudeDegrees></Position></Trackpoint>
+                      </Track></Lap>
+                    </Activity>
+                  </Activities>
+                </TrainingCenterDatabase>
+                """;
+
+        List<Course> courses = parser.parse(toInputStream(tcx));
+
+        assertThat(courses).extracting(Course::name).containsExactly("이름 없는 코스");
+    }
+
+    @Test
+    void 고도가_숫자가_아니면_예외가_발생한다() {
+        String tcx = """
+                <TrainingCenterDatabase>
+                  <Courses><Course><Name>석촌호수</Name><Track>
+                    <Trackpoint><Position><LatitudeDegrees>37.5</LatitudeDegrees><LongitudeDegrees>127.0</LongitudeDegrees></Position><AltitudeMeters>NaN</AltitudeMeters></Trackpoint>
+                    <Trackpoint><Position><LatitudeDegrees>37.501</LatitudeDegrees><LongitudeDegrees>127.0</LongitudeDegrees></Position><AltitudeMeters>12.5</AltitudeMeters></Trackpoint>
+                  </Track></Course></Courses>
+                </TrainingCenterDatabase>
+                """;
+
+        assertThatThrownBy(() -> parser.parse(toInputStream(tcx)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 올바르지_않은_문서면_예외가_발생한다() {
+        assertThatThrownBy(() -> parser.parse(toInputStream("<TrainingCenterDatabase><Course><<")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream toInputStream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,247 @@
+package demo.demo.presentation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import demo.demo.application.CourseImportPipeline;
+import demo.demo.application.CourseImportReport;
+import demo.demo.application.CourseImportResult;
+import demo.demo.application.CourseService;
+import demo.demo.application.CourseTile;
+import demo.demo.application.ImportProgress;
+import demo.demo.application.ImportStage;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.CourseProgress;
+import demo.demo.domain.CourseSearchCondition;
+import demo.demo.domain.CourseSearchPage;
+import demo.demo.domain.CourseSummary;
+import demo.demo.domain.ElevationProfile;
+import demo.demo.domain.Meter;
+import demo.demo.domain.NearCourse;
+import demo.demo.domain.RoadType;
+import demo.demo.domain.SnappedCoordinate;
+import demo.demo.domain.Tile;
+import demo.demo.presentation.dto.SnapRequest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(CourseController.class)
+class CourseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CourseService courseService;
+
+    @MockitoBean
+    private CourseImportPipeline courseImportPipeline;
+
+    @Test
+    void 좌표들을_코스에_스냅한다() throws Exception {
+        given(courseService.snap(eq(1L), any())).willReturn(List.of(
+                new SnappedCoordinate(new Coordinate(37.5, 127.0), 3, new Meter(12.5))
+        ));
+
+        mockMvc.perform(post("/courses/1/snap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"coordinates": [{"latitude": 37.5001, "longitude": 127.0001}]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].latitude").value(37.5))
+                .andExpect(jsonPath("$[0].longitude").value(127.0))
+                .andExpect(jsonPath("$[0].segment").value(3))
+                .andExpect(jsonPath("$[0].distance").value(12.5));
+    }
+
+    @Test
+    void 없는_코스에_스냅하면_404를_응답한다() throws Exception {
+        given(courseService.snap(eq(2L), any())).willThrow(new NoSuchElementException());
+
+        mockMvc.perform(post("/courses/2/snap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"coordinates": []}
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 범위를_벗어난_좌표로_스냅하면_400을_응답한다() throws Exception {
+        mockMvc.perform(post("/courses/1/snap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"coordinates": [{"latitude": 91, "longitude": 127.0}]}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{}", "{\"coordinates\": null}", "{\"coordinates\": [null]}"})
+    void 스냅할_좌표가_없으면_400을_응답한다(String body) throws Exception {
+        mockMvc.perform(post("/courses/1/snap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 스냅할_좌표가_최대_개수를_넘으면_400을_응답한다() throws Exception {
+        String coordinates = String.join(",", Collections.nCopies(SnapRequest.MAX_SIZE + 1, "{\"latitude\": 37.5, \"longitude\": 127.0}"));
+
+        mockMvc.perform(post("/courses/1/snap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"coordinates\": [" + coordinates + "]}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    void 업로드한_파일의_코스를_가져온다() throws Exception {
+        given(courseImportPipeline.importAll(any())).willReturn(new CourseImportReport(
+                2, 1, 5, 0,
+                new CourseImportResult(5, 120, Duration.ofMillis(300)),
+                Map.of(ImportStage.PARSE, Duration.ofMillis(40))
+        ));
+
+        mockMvc.perform(multipart("/courses/import")
+                        .file(new MockMultipartFile("files", "한강.gpx", "application/gpx+xml", new byte[0]))
+                        .file(new MockMultipartFile("files", "남산.gpx", "application/gpx+xml", new byte[0])))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parsedFiles").value(2))
+                .andExpect(jsonPath("$.failedFiles").value(1))
+                .andExpect(jsonPath("$.savedCourses").value(5))
+                .andExpect(jsonPath("$.savedCoordinates").value(120))
+                .andExpect(jsonPath("$.stageBusyMillis.PARSE").value(40));
+    }
+
+    @Test
+    void 진행_중인_가져오기의_현재_집계를_응답한다() throws Exception {
+        ImportProgress progress = new ImportProgress();
+        given(courseImportPipeline.activeImports()).willReturn(List.of(progress));
+
+        mockMvc.perform(get("/courses/import/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].importId").value(progress.id()))
+                .andExpect(jsonPath("$[0].savedCourses").value(0));
+    }
+
+    @Test
+    void 코스_위치의_진행_거리를_응답한다() throws Exception {
+        given(courseService.progress(eq(1L), any())).willReturn(new CourseProgress(
+                new SnappedCoordinate(new Coordinate(37.5, 127.0), 2, new Meter(3.5)),
+                new Meter(120),
+                new Meter(880)
+        ));
+
+        mockMvc.perform(get("/courses/1/progress").param("latitude", "37.50001").param("longitude", "127.0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segment").value(2))
+                .andExpect(jsonPath("$.distanceFromCourse").value(3.5))
+                .andExpect(jsonPath("$.covered").value(120.0))
+                .andExpect(jsonPath("$.remaining").value(880.0));
+    }
+
+    @Test
+    void 반경_안의_코스를_거리와_함께_응답한다() throws Exception {
+        given(courseService.findAllWithin(any(), eq(new Meter(500)))).willReturn(List.of(
+                new NearCourse(new CourseSummary(1L, "석촌호수", RoadType.트랙, 222.4, 1.03), new Meter(0))
+        ));
+
+        mockMvc.perform(get("/courses").param("latitude", "37.5").param("longitude", "127.0").param("radius", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("석촌호수"))
+                .andExpect(jsonPath("$[0].distance").value(0.0));
+    }
+
+    @Test
+    void 가장_가까운_코스를_계산된_거리와_함께_응답한다() throws Exception {
+        given(courseService.findNearest(new Coordinate(37.5, 127.0), 1)).willReturn(List.of(
+                new NearCourse(new CourseSummary(3L, "석촌호수", RoadType.트랙, 222.4, 1.03), new Meter(42.5))
+        ));
+
+        mockMvc.perform(get("/courses/nearest").param("latitude", "37.5").param("longitude", "127.0").param("k", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].distance").value(42.5));
+    }
+
+    @Test
+    void 코스의_고도_프로필을_응답한다() throws Exception {
+        given(courseService.elevationProfile(1L)).willReturn(
+                new ElevationProfile(35.0, 34.0, 0.08, 250.0, new double[]{10.0, 30.0, 12.0})
+        );
+
+        mockMvc.perform(get("/courses/1/elevation"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ascent").value(35.0))
+                .andExpect(jsonPath("$.descent").value(34.0))
+                .andExpect(jsonPath("$.maxGrade").value(0.08))
+                .andExpect(jsonPath("$.samples.length()").value(3))
+                .andExpect(jsonPath("$.samples[2].distance").value(500.0))
+                .andExpect(jsonPath("$.samples[2].elevation").value(12.0));
+    }
+
+    @Test
+    void 조건에_맞는_코스를_다음_커서와_함께_응답한다() throws Exception {
+        given(courseService.search(new CourseSearchCondition(
+                null, null, RoadType.트랙, new Meter(100), Meter.max(), 1, 10, 7L, 1
+        ))).willReturn(new CourseSearchPage(List.of(new CourseSummary(12L, "석촌호수", RoadType.트랙, 222.4, 1.03)), 12L));
+
+        mockMvc.perform(get("/courses/search")
+                        .param("roadType", "트랙")
+                        .param("minLength", "100")
+                        .param("cursor", "7")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[0].name").value("석촌호수"))
+                .andExpect(jsonPath("$.courses[0].roadType").value("트랙"))
+                .andExpect(jsonPath("$.nextCursor").value(12));
+    }
+
+    @Test
+    void 위도나_경도_하나만_보내면_400을_응답한다() throws Exception {
+        mockMvc.perform(get("/courses/search").param("latitude", "37.5").param("radius", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 타일과_겹치는_코스의_폴리라인을_응답한다() throws Exception {
+        Tile tile = new Tile(14, 13976, 6348);
+        given(courseService.tile(tile)).willReturn(new CourseTile(tile, List.of(
+                new CourseTile.Feature(1L, "석촌호수", List.of("_p~iF~ps|U_ulLnnqC"))
+        )));
+
+        mockMvc.perform(get("/courses/tiles/14/13976/6348"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.zoom").value(14))
+                .andExpect(jsonPath("$.courses[0].id").value(1))
+                .andExpect(jsonPath("$.courses[0].polylines[0]").value("_p~iF~ps|U_ulLnnqC"));
+    }
+
+    @Test
+    void 범위를_벗어난_타일을_요청하면_400을_응답한다() throws Exception {
+        mockMvc.perform(get("/courses/tiles/1/2/0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,102 @@
+package demo.demo.presentation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import demo.demo.application.RunnerTracker;
+import demo.demo.application.TrackingStatus;
+import demo.demo.domain.Coordinate;
+import demo.demo.domain.CourseProgress;
+import demo.demo.domain.Meter;
+import demo.demo.domain.SnappedCoordinate;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(TrackingController.class)
+class TrackingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final UUID SESSION_ID = UUID.fromString("5f0c6a4e-2b7d-4c1e-9a3f-8d2e6b1c4a70");
+    private static final UUID UNKNOWN_SESSION_ID = UUID.fromString("0b9e3d2c-7a1f-4e6b-8c5d-3f2a1e9b7c64");
+
+    @MockitoBean
+    private RunnerTracker runnerTracker;
+
+    @Test
+    void 코스_추적을_시작한다() throws Exception {
+        given(runnerTracker.start(1L)).willReturn(trackingStatus(0, false));
+
+        mockMvc.perform(post("/tracking/sessions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"courseId": 1}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.sessionId").value(SESSION_ID.toString()))
+                .andExpect(jsonPath("$.courseId").value(1));
+    }
+
+    @Test
+    void 코스_아이디_없이_시작하면_400을_응답한다() throws Exception {
+        mockMvc.perform(post("/tracking/sessions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 위치를_보내면_진행_상황과_이탈_여부를_응답한다() throws Exception {
+        given(runnerTracker.update(eq(SESSION_ID), any())).willReturn(trackingStatus(12, true));
+
+        mockMvc.perform(post("/tracking/sessions/{sessionId}/fixes", SESSION_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"latitude": 37.5, "longitude": 127.0}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segment").value(3))
+                .andExpect(jsonPath("$.covered").value(120.0))
+                .andExpect(jsonPath("$.remaining").value(880.0))
+                .andExpect(jsonPath("$.fixCount").value(12))
+                .andExpect(jsonPath("$.offCourse").value(true));
+    }
+
+    @Test
+    void 없는_세션은_404를_응답한다() throws Exception {
+        given(runnerTracker.status(UNKNOWN_SESSION_ID)).willThrow(new NoSuchElementException());
+        willThrow(new NoSuchElementException()).given(runnerTracker).end(UNKNOWN_SESSION_ID);
+
+        mockMvc.perform(get("/tracking/sessions/{sessionId}", UNKNOWN_SESSION_ID)).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/tracking/sessions/{sessionId}", UNKNOWN_SESSION_ID)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 순번_형식의_세션_아이디는_400을_응답한다() throws Exception {
+        mockMvc.perform(get("/tracking/sessions/8")).andExpect(status().isBadRequest());
+        verifyNoInteractions(runnerTracker);
+    }
+
+    private static TrackingStatus trackingStatus(long fixCount, boolean offCourse) {
+        return new TrackingStatus(SESSION_ID, 1L, new CourseProgress(
+                new SnappedCoordinate(new Coordinate(37.5, 127.0), 3, new Meter(60)),
+                new Meter(120),
+                new Meter(880)
+        ), fixCount, offCourse ? 3 : 0, offCourse);
+    }
+}
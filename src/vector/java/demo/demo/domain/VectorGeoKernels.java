@@ -0,0 +1,39 @@
+package demo.demo.domain;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorGeoKernels implements GeoKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double RADIANS_PER_DEGREE = Math.PI / 180;
+
+    @Override
+    public void segmentLengths(double[] latitudes, double[] longitudes, double[] lengths) {
+        int i = 0;
+        int bound = SPECIES.loopBound(lengths.length);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector startLatitude = DoubleVector.fromArray(SPECIES, latitudes, i).mul(RADIANS_PER_DEGREE);
+            DoubleVector endLatitude = DoubleVector.fromArray(SPECIES, latitudes, i + 1).mul(RADIANS_PER_DEGREE);
+            DoubleVector startLongitude = DoubleVector.fromArray(SPECIES, longitudes, i).mul(RADIANS_PER_DEGREE);
+            DoubleVector endLongitude = DoubleVector.fromArray(SPECIES, longitudes, i + 1).mul(RADIANS_PER_DEGREE);
+
+            DoubleVector halfSinLongitude = startLongitude.sub(endLongitude).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector halfSinLatitude = startLatitude.sub(endLatitude).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector h = halfSinLatitude.mul(halfSinLatitude)
+                    .add(startLatitude.lanewise(VectorOperators.COS)
+                            .mul(endLatitude.lanewise(VectorOperators.COS))
+                            .mul(halfSinLongitude)
+                            .mul(halfSinLongitude))
+                    .min(1.0);
+            h.sqrt()
+                    .lanewise(VectorOperators.ATAN2, h.neg().add(1.0).sqrt())
+                    .mul(2 * Haversine.EARTH_RADIUS_METERS)
+                    .intoArray(lengths, i);
+        }
+        for (; i < lengths.length; i++) {
+            lengths[i] = Haversine.distance(latitudes[i], longitudes[i], latitudes[i + 1], longitudes[i + 1]);
+        }
+    }
+}